@@ -0,0 +1,111 @@
+package io.github.sachinnimbal.crudx.core.aot;
+
+import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.config.CrudXServiceAutoConfiguration;
+import io.github.sachinnimbal.crudx.core.index.CrudXIndex;
+import io.github.sachinnimbal.crudx.core.model.CrudXAudit;
+import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
+import io.github.sachinnimbal.crudx.core.response.ApiResponse;
+import io.github.sachinnimbal.crudx.core.response.BatchResult;
+import io.github.sachinnimbal.crudx.core.response.PageResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Native-image hints for the reflective paths CrudX relies on at runtime.
+ *
+ * <p>Application types come from the compile-time index ({@code META-INF/crudx/index}), so
+ * only indexed entities, DTOs, controllers and generated mappers are registered:</p>
+ * <ul>
+ *     <li>Entities (whole hierarchy): field access for {@code CrudXSQLService.update} and
+ *     the runtime mapper, public methods for {@code onUpdate}, constructors for JPA/Mongo</li>
+ *     <li>DTOs: fields, accessors and constructors for Jackson and the mappers</li>
+ *     <li>Generated mappers: constructors, as they are registered by class name</li>
+ *     <li>Controllers: type only, so generic superclass resolution works</li>
+ * </ul>
+ * <p>Without an index only the framework's own types are registered.</p>
+ */
+public class CrudXRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] DATA_CATEGORIES = {
+            MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_PUBLIC_METHODS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Framework types
+        BindableRuntimeHintsRegistrar.forTypes(CrudXProperties.class).registerHints(hints, classLoader);
+        hints.reflection()
+                .registerType(CrudXServiceAutoConfiguration.DynamicSQLService.class,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(CrudXServiceAutoConfiguration.DynamicMongoService.class,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        for (Class<?> type : new Class<?>[]{CrudXBaseEntity.class, CrudXAudit.class,
+                ApiResponse.class, BatchResult.class, PageResponse.class}) {
+            hints.reflection().registerType(type, DATA_CATEGORIES);
+        }
+
+        // Compile-time metadata and dashboard pages
+        hints.resources()
+                .registerPattern(CrudXIndex.INDEX_LOCATION)
+                .registerPattern("META-INF/crudx/dto/*.properties")
+                .registerPattern("crudx-version.properties")
+                .registerPattern("index.html")
+                .registerPattern("endpoints.html")
+                .registerPattern("swagger-ui.html");
+
+        CrudXIndex.load(classLoader).ifPresent(index -> registerIndexedTypes(index, hints, classLoader));
+    }
+
+    private void registerIndexedTypes(CrudXIndex index, RuntimeHints hints, ClassLoader classLoader) {
+        Set<Class<?>> registered = new HashSet<>();
+
+        for (CrudXIndex.Entry entry : index.getEntries()) {
+            Class<?> entityClass = resolve(entry.getEntityClassName(), classLoader);
+            for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                if (registered.add(type)) {
+                    hints.reflection().registerType(type, DATA_CATEGORIES);
+                }
+            }
+
+            if (entry.getIdClassName() != null) {
+                hints.reflection().registerType(TypeReference.of(entry.getIdClassName()),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            for (String dto : entry.getRequestDTOs()) {
+                hints.reflection().registerType(TypeReference.of(dto), DATA_CATEGORIES);
+            }
+            for (String dto : entry.getResponseDTOs()) {
+                hints.reflection().registerType(TypeReference.of(dto), DATA_CATEGORIES);
+            }
+
+            if (entry.getMapperClassName() != null
+                    && ClassUtils.isPresent(entry.getMapperClassName(), classLoader)) {
+                hints.reflection().registerType(TypeReference.of(entry.getMapperClassName()),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+
+            for (String controller : entry.getControllers()) {
+                hints.reflection().registerType(TypeReference.of(controller));
+            }
+        }
+    }
+
+    private Class<?> resolve(String className, ClassLoader classLoader) {
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded concurrent cache with second-chance (CLOCK) eviction.
+ *
+ * <p>Reads are lock-free: a hit only flips a reference bit on the entry. When an insert
+ * pushes the cache over {@code maxSize}, the oldest entries are evicted unless they were
+ * read since the last sweep, in which case they get one more round.</p>
+ *
+ * <p>The eviction queue holds (key, node) slots. Invalidated or replaced entries leave their
+ * slot behind; stale slots are skipped when polled and compacted away once the queue grows
+ * past twice the maximum size, so invalidation-heavy use below capacity cannot grow it.</p>
+ *
+ * <p>Hit, miss and eviction counters are kept in {@link LongAdder}s so they can be
+ * surfaced on the performance dashboard without contending on the hot path.</p>
+ */
+public class CrudXBoundedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final ConcurrentHashMap<K, Node<V>> entries;
+    private final Queue<Slot<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CrudXBoundedCache(String name, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache '" + name + "' must have a positive max size");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    public V get(K key) {
+        Node<V> node = entries.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        node.touch();
+        return node.value;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        Node<V> node = entries.get(key);
+        if (node != null) {
+            hits.increment();
+            node.touch();
+            return node.value;
+        }
+
+        misses.increment();
+        boolean[] inserted = new boolean[1];
+        node = entries.computeIfAbsent(key, k -> {
+            V value = loader.apply(k);
+            if (value == null) {
+                return null;
+            }
+            inserted[0] = true;
+            return new Node<>(value);
+        });
+
+        if (inserted[0]) {
+            enqueue(key, node);
+            evictIfNecessary();
+        }
+        return node != null ? node.value : null;
+    }
+
+    public void put(K key, V value) {
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+        // A replaced node's slot goes stale, so the new node always gets its own
+        Node<V> node = new Node<>(value);
+        entries.put(key, node);
+        enqueue(key, node);
+        evictIfNecessary();
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        // Queue first: a put racing with this either keeps its slot or loses its entry too
+        insertionOrder.clear();
+        queued.set(0);
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRate", total > 0 ? String.format("%.2f%%", hitCount * 100.0 / total) : "N/A");
+        return stats;
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private void enqueue(K key, Node<V> node) {
+        insertionOrder.offer(new Slot<>(key, node));
+        if (queued.incrementAndGet() > 2 * maxSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops slots whose entry was invalidated or replaced since it was queued
+     */
+    private void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Iterator<Slot<K, V>> it = insertionOrder.iterator(); it.hasNext(); ) {
+                if (it.next().isStale(entries)) {
+                    it.remove();
+                }
+            }
+            // Approximate under concurrent offers/polls; the next compaction corrects it
+            queued.set(insertionOrder.size());
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void evictIfNecessary() {
+        // Bound the second-chance rotations so a fully "hot" cache still makes progress
+        int secondChances = 0;
+        while (entries.size() > maxSize) {
+            Slot<K, V> slot = insertionOrder.poll();
+            if (slot == null) {
+                return;
+            }
+            queued.decrementAndGet();
+
+            if (slot.isStale(entries)) {
+                continue; // Invalidated or replaced since queued
+            }
+
+            Node<V> node = slot.node();
+            if (node.accessed && secondChances++ < maxSize) {
+                node.accessed = false;
+                insertionOrder.offer(slot);
+                queued.incrementAndGet();
+                continue;
+            }
+
+            if (entries.remove(slot.key(), node)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Slot<K, V>(K key, Node<V> node) {
+
+        boolean isStale(Map<K, Node<V>> entries) {
+            return entries.get(key) != node;
+        }
+    }
+
+    private static final class Node<V> {
+        final V value;
+        volatile boolean accessed;
+
+        Node(V value) {
+            this.value = value;
+        }
+
+        void touch() {
+            if (!accessed) {
+                accessed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Invalidation broadcast after a CrudX write: every node evicts its local copies.
+ *
+ * @param origin   node that wrote (it has already evicted locally)
+ * @param entity   entity class name
+ * @param ids      ids of the rows written
+ * @param all      the ids are unknown or too many: every cached row of the entity is suspect
+ * @param inserted the rows were inserted (evict not-found entries) rather than updated or deleted
+ */
+public record CrudXCacheInvalidation(String origin, String entity, List<Serializable> ids, boolean all,
+                                     boolean inserted)
+        implements Serializable {
+}
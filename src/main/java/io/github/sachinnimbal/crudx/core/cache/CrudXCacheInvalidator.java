@@ -0,0 +1,210 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single entry point for CrudX write paths into the caches.
+ *
+ * <p>A write evicts this node's copies immediately. Inside a transaction the changed ids are
+ * collected and, once the transaction commits, evicted again locally (a read between write and
+ * commit may have re-cached the old state), evicted from the shared tier and broadcast to the
+ * other nodes in one message per entity and kind of change. Outside a transaction that happens
+ * right away.</p>
+ *
+ * <p>Updates and deletes evict the rows from the entity cache; inserts evict the ids from the
+ * negative (not-found) cache. Both invalidate the entity's query results.</p>
+ */
+@Slf4j
+public class CrudXCacheInvalidator {
+
+    /**
+     * Beyond this many ids a broadcast just says "every row of this entity"
+     */
+    static final int MAX_BROADCAST_IDS = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CrudXQueryCacheManager queryCaches;
+    private final CrudXEntityCacheManager entityCaches;
+    private final CrudXNegativeCacheManager negativeCaches;
+    private final CrudXSharedCacheTier sharedTier;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    public CrudXCacheInvalidator(CrudXQueryCacheManager queryCaches, CrudXEntityCacheManager entityCaches,
+                                 CrudXNegativeCacheManager negativeCaches, CrudXSharedCacheTier sharedTier) {
+        this.queryCaches = queryCaches;
+        this.entityCaches = entityCaches;
+        this.negativeCaches = negativeCaches;
+        this.sharedTier = sharedTier;
+
+        if (sharedTier != null) {
+            sharedTier.subscribe(this::onInvalidation);
+            log.info("✓ Cache invalidation broadcast: ENABLED ({}, node {})", sharedTier.getName(), nodeId);
+        }
+    }
+
+    /**
+     * Rows of {@code entityClass} were updated or deleted
+     */
+    public void invalidate(Class<?> entityClass, Collection<?> ids) {
+        evictLocal(entityClass.getName(), ids, false, false);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Changes changes = pendingChanges(entityClass);
+            changes.written = true;
+            changes.writtenIds.addAll(ids);
+        } else {
+            propagate(entityClass, ids, false, false);
+        }
+    }
+
+    /**
+     * Rows of {@code entityClass} were inserted; {@code ids} is {@code null} when the generated
+     * ids are not known (every not-found entry of the entity is dropped then)
+     */
+    public void inserted(Class<?> entityClass, Collection<?> ids) {
+        boolean unknown = ids == null;
+        Collection<?> insertedIds = unknown ? List.of() : ids;
+        evictLocal(entityClass.getName(), insertedIds, unknown, true);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Changes changes = pendingChanges(entityClass);
+            changes.inserted = true;
+            changes.insertedUnknown |= unknown;
+            changes.insertedIds.addAll(insertedIds);
+        } else {
+            propagate(entityClass, insertedIds, unknown, true);
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    // ==================== HELPERS ====================
+
+    @SuppressWarnings("unchecked")
+    private Changes pendingChanges(Class<?> entityClass) {
+        Map<Class<?>, Changes> pending = (Map<Class<?>, Changes>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Class<?>, Changes> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CrudXCacheInvalidator.this);
+                    if (status == STATUS_COMMITTED) {
+                        created.forEach(CrudXCacheInvalidator.this::committed);
+                    }
+                }
+            });
+            pending = created;
+        }
+        return pending.computeIfAbsent(entityClass, type -> new Changes());
+    }
+
+    private void committed(Class<?> entityClass, Changes changes) {
+        String entity = entityClass.getName();
+        if (changes.written) {
+            evictLocal(entity, changes.writtenIds, false, false);
+            propagate(entityClass, changes.writtenIds, false, false);
+        }
+        if (changes.inserted) {
+            evictLocal(entity, changes.insertedIds, changes.insertedUnknown, true);
+            propagate(entityClass, changes.insertedIds, changes.insertedUnknown, true);
+        }
+    }
+
+    private void evictLocal(String entity, Collection<?> ids, boolean all, boolean inserted) {
+        if (queryCaches != null) {
+            CrudXQueryCache queryCache = queryCaches.find(entity);
+            if (queryCache != null) {
+                queryCache.invalidate();
+            }
+        }
+
+        if (inserted) {
+            CrudXNegativeCache negativeCache = negativeCaches != null ? negativeCaches.find(entity) : null;
+            if (negativeCache != null) {
+                if (all) {
+                    negativeCache.evictAll();
+                } else {
+                    ids.forEach(negativeCache::evict);
+                }
+            }
+        } else {
+            CrudXEntityCache entityCache = entityCaches != null ? entityCaches.find(entity) : null;
+            if (entityCache != null) {
+                if (all) {
+                    entityCache.evictAll();
+                } else {
+                    ids.forEach(entityCache::evict);
+                }
+            }
+        }
+    }
+
+    private void propagate(Class<?> entityClass, Collection<?> ids, boolean all, boolean inserted) {
+        if (sharedTier == null) {
+            return;
+        }
+
+        if (!inserted && entityCaches != null) {
+            CrudXEntityCache entityCache = entityCaches.forEntity(entityClass);
+            ids.forEach(entityCache::evictShared);
+        }
+
+        boolean broadcastAll = all || ids.size() > MAX_BROADCAST_IDS;
+        List<Serializable> broadcastIds = new ArrayList<>(broadcastAll ? 0 : ids.size());
+        if (!broadcastAll) {
+            for (Object id : ids) {
+                broadcastIds.add((Serializable) id);
+            }
+        }
+        try {
+            sharedTier.publish(new CrudXCacheInvalidation(nodeId, entityClass.getName(), broadcastIds,
+                    broadcastAll, inserted));
+            published.increment();
+        } catch (RuntimeException e) {
+            log.warn("⚠️  Cache invalidation broadcast failed for {} - other nodes serve cached rows until TTL: {}",
+                    entityClass.getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void onInvalidation(CrudXCacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return; // Evicted when written
+        }
+        received.increment();
+        evictLocal(invalidation.entity(), invalidation.ids(), invalidation.all(), invalidation.inserted());
+    }
+
+    /**
+     * Writes of one entity within one transaction
+     */
+    private static final class Changes {
+        final Set<Object> writtenIds = new LinkedHashSet<>();
+        final Set<Object> insertedIds = new LinkedHashSet<>();
+        boolean written;
+        boolean inserted;
+        boolean insertedUnknown;
+    }
+}
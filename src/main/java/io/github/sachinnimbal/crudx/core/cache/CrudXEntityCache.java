@@ -0,0 +1,149 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier near-cache of one entity type by id.
+ *
+ * <p>Reads go local tier, then the shared tier (when configured), then the loader; a shared hit
+ * is copied into the local tier. Both tiers expire entries after the TTL. {@link #evict(Object)}
+ * removes the local copy and bumps a generation counter, so a load that raced with the write is
+ * returned but not cached. Evicting the shared copy and telling the other nodes is up to
+ * {@link CrudXCacheInvalidator}.</p>
+ *
+ * <p>The local generation cannot stop another node from writing a row it read before a commit
+ * to the shared tier after the writer evicted it there. So shared entries are only added with
+ * put-if-absent, and a shared eviction leaves a tombstone for an eviction grace period (longer
+ * than any read can take) instead of deleting, which turns such late writes into no-ops.</p>
+ *
+ * <p>A failing shared tier is logged and bypassed; reads fall back to the database.</p>
+ */
+@Slf4j
+public class CrudXEntityCache {
+
+    private final String region;
+    private final CrudXBoundedCache<Object, Local> local;
+    private final CrudXSharedCacheTier shared;
+    private final Duration ttl;
+    private final Duration evictionGrace;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param evictionGrace how long a shared eviction blocks re-population of the row; at least
+     *                      as long as a read may take (zero deletes without a tombstone)
+     */
+    public CrudXEntityCache(String region, int maxEntries, Duration ttl, Duration evictionGrace,
+                            CrudXSharedCacheTier shared) {
+        this.region = region;
+        this.local = new CrudXBoundedCache<>(region, maxEntries);
+        this.shared = shared;
+        this.ttl = ttl;
+        this.evictionGrace = evictionGrace;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object id, Supplier<T> loader) {
+        long current = generation.get();
+        Local cached = local.get(id);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+            return (T) cached.value();
+        }
+
+        if (shared != null) {
+            Object value = sharedGet(id);
+            if (value != null) {
+                if (generation.get() == current) {
+                    local.put(id, new Local(value, System.nanoTime()));
+                }
+                return (T) value;
+            }
+        }
+
+        T value = loader.get();
+        if (value != null && generation.get() == current) {
+            local.put(id, new Local(value, System.nanoTime()));
+            if (shared != null) {
+                sharedPut(id, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops the local copy of one row
+     */
+    public void evict(Object id) {
+        generation.incrementAndGet();
+        local.invalidate(id);
+    }
+
+    /**
+     * Drops every local copy
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    /**
+     * Drops the shared copy of one row and blocks stale re-population for the eviction grace
+     * (the writing node does this after commit; others only evict locally)
+     */
+    public void evictShared(Object id) {
+        if (shared != null) {
+            try {
+                if (evictionGrace.isZero()) {
+                    shared.evict(region, id);
+                } else {
+                    shared.put(region, id, Tombstone.EVICTED, evictionGrace);
+                }
+            } catch (RuntimeException e) {
+                log.warn("⚠️  Shared cache evict failed for {}:{} - entry expires after {}s: {}",
+                        region, id, ttl.toSeconds(), e.getMessage());
+            }
+        }
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public CrudXBoundedCache<?, ?> getLocal() {
+        return local;
+    }
+
+    private Object sharedGet(Object id) {
+        try {
+            Object value = shared.get(region, id);
+            return value instanceof Tombstone ? null : value;
+        } catch (RuntimeException e) {
+            log.debug("Shared cache read failed for {}:{}: {}", region, id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void sharedPut(Object id, Object value) {
+        try {
+            // Never overwrites: an existing entry is current, or a tombstone of a recent write
+            shared.putIfAbsent(region, id, value, ttl);
+        } catch (RuntimeException e) {
+            log.debug("Shared cache write failed for {}:{}: {}", region, id, e.getMessage());
+        }
+    }
+
+    private record Local(Object value, long loadedAt) {
+    }
+
+    /**
+     * Shared-tier marker of a recently written row (serializable, compared by identity)
+     */
+    enum Tombstone {
+        EVICTED
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CrudXEntityCache} per entity class, created on first use and backed by the
+ * shared tier when one is configured.
+ */
+public class CrudXEntityCacheManager {
+
+    private final ConcurrentHashMap<Class<?>, CrudXEntityCache> caches = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Duration evictionGrace;
+    private final CrudXSharedCacheTier sharedTier;
+    private final ObjectProvider<CrudXMetricsPublisher> metricsPublisher;
+
+    public CrudXEntityCacheManager(int maxEntries, Duration ttl, Duration evictionGrace,
+                                   CrudXSharedCacheTier sharedTier,
+                                   ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.evictionGrace = evictionGrace;
+        this.sharedTier = sharedTier;
+        this.metricsPublisher = metricsPublisher;
+    }
+
+    public CrudXEntityCache forEntity(Class<?> entityClass) {
+        CrudXEntityCache cache = caches.get(entityClass);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(entityClass, type -> {
+            CrudXEntityCache created = new CrudXEntityCache("crudx:entity:" + type.getName(),
+                    maxEntries, ttl, evictionGrace, sharedTier);
+            metricsPublisher.ifAvailable(publisher -> publisher.registerCache(created.getLocal()));
+            return created;
+        });
+    }
+
+    /**
+     * The cache of an entity by class name, or {@code null} when this node never used it
+     */
+    public CrudXEntityCache find(String entityClassName) {
+        for (var entry : caches.entrySet()) {
+            if (entry.getKey().getName().equals(entityClassName)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    public Collection<CrudXEntityCache> getCaches() {
+        return new ArrayList<>(caches.values());
+    }
+
+    public CrudXSharedCacheTier getSharedTier() {
+        return sharedTier;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.topic.ITopic;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Shared tier on a Hazelcast cluster: one {@link IMap} per region, invalidations on an
+ * {@link ITopic}. Works with a client or an embedded member alike.
+ */
+public class CrudXHazelcastCacheTier implements CrudXSharedCacheTier {
+
+    private final HazelcastInstance hazelcast;
+    private final ITopic<CrudXCacheInvalidation> topic;
+
+    public CrudXHazelcastCacheTier(HazelcastInstance hazelcast, String topicName) {
+        this.hazelcast = hazelcast;
+        this.topic = hazelcast.getTopic(topicName);
+    }
+
+    @Override
+    public Object get(String region, Object key) {
+        return map(region).get(key);
+    }
+
+    @Override
+    public void put(String region, Object key, Object value, Duration ttl) {
+        map(region).set(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean putIfAbsent(String region, Object key, Object value, Duration ttl) {
+        return map(region).putIfAbsent(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS) == null;
+    }
+
+    @Override
+    public void evict(String region, Object key) {
+        map(region).delete(key);
+    }
+
+    @Override
+    public void publish(CrudXCacheInvalidation invalidation) {
+        topic.publish(invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<CrudXCacheInvalidation> listener) {
+        topic.addMessageListener(message -> listener.accept(message.getMessageObject()));
+    }
+
+    @Override
+    public String getName() {
+        return "hazelcast";
+    }
+
+    private IMap<Object, Object> map(String region) {
+        // Proxies are cached by Hazelcast; the lookup is a local map read
+        return hazelcast.getMap(region);
+    }
+}
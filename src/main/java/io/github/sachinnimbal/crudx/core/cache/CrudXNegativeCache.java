@@ -0,0 +1,66 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids of one entity type that were recently looked up and not found.
+ *
+ * <p>Lets repeated lookups of missing ids (crawlers, client retries) skip the database for a
+ * short TTL. Inserts evict the inserted ids (or everything when the ids are unknown) through
+ * {@link CrudXCacheInvalidator}. A miss is only recorded if no insert happened while it was
+ * being looked up, so a lookup racing with an insert cannot leave a stale entry behind.</p>
+ */
+public class CrudXNegativeCache {
+
+    private final CrudXBoundedCache<Object, Long> missing;
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+
+    public CrudXNegativeCache(String name, int maxEntries, long ttlMillis) {
+        this.missing = new CrudXBoundedCache<>(name, maxEntries);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Whether {@code id} was recently found missing
+     */
+    public boolean isMissing(Object id) {
+        Long recordedAt = missing.get(id);
+        if (recordedAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - recordedAt >= ttlNanos) {
+            missing.invalidate(id);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Token to take before the database lookup and hand to {@link #recordMissing(Object, long)}
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public void recordMissing(Object id, long lookupGeneration) {
+        if (generation.get() == lookupGeneration) {
+            missing.put(id, System.nanoTime());
+        }
+    }
+
+    public void evict(Object id) {
+        generation.incrementAndGet();
+        missing.invalidate(id);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        missing.invalidateAll();
+    }
+
+    public CrudXBoundedCache<?, ?> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CrudXNegativeCache} per entity class, created on first use
+ */
+public class CrudXNegativeCacheManager {
+
+    private final ConcurrentHashMap<Class<?>, CrudXNegativeCache> caches = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ObjectProvider<CrudXMetricsPublisher> metricsPublisher;
+
+    public CrudXNegativeCacheManager(int maxEntries, long ttlMillis,
+                                     ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.metricsPublisher = metricsPublisher;
+    }
+
+    public CrudXNegativeCache forEntity(Class<?> entityClass) {
+        CrudXNegativeCache cache = caches.get(entityClass);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(entityClass, type -> {
+            CrudXNegativeCache created = new CrudXNegativeCache("missing:" + type.getSimpleName(), maxEntries, ttlMillis);
+            metricsPublisher.ifAvailable(publisher -> publisher.registerCache(created.getMissing()));
+            return created;
+        });
+    }
+
+    /**
+     * The cache of an entity by class name, or {@code null} when this node never used it
+     */
+    public CrudXNegativeCache find(String entityClassName) {
+        for (var entry : caches.entrySet()) {
+            if (entry.getKey().getName().equals(entityClassName)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    public Collection<CrudXNegativeCache> getCaches() {
+        return new ArrayList<>(caches.values());
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Query result cache for one entity: list, page and count results keyed by the normalized
+ * page, sort and expand paths.
+ *
+ * <p>Invalidation is O(1): every write bumps a generation counter, and results stored under an
+ * older generation are treated as misses (and overwritten on the next load). Results also
+ * expire after a TTL, which bounds staleness from writes that bypass CrudX. Transactions and
+ * other nodes are handled by {@link CrudXCacheInvalidator}.</p>
+ *
+ * <p>Results are stored as loaded and handed out as fresh lists, so callers may modify the
+ * returned collections (but not the entities in them, which are shared).</p>
+ */
+public class CrudXQueryCache {
+
+    private final CrudXBoundedCache<QueryKey, Result> results;
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+
+    public CrudXQueryCache(String name, int maxEntries, long ttlMillis) {
+        this.results = new CrudXBoundedCache<>(name, maxEntries);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    public <T> List<T> list(Sort sort, Set<String> fetchPaths, Supplier<List<T>> loader) {
+        List<T> content = load(QueryKey.list(sort, fetchPaths), loader);
+        return new ArrayList<>(content);
+    }
+
+    public <T> Page<T> page(Pageable pageable, Set<String> fetchPaths, Supplier<Page<T>> loader) {
+        Page<T> page = load(QueryKey.page(pageable, fetchPaths), loader);
+        return new PageImpl<>(new ArrayList<>(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    public long count(LongSupplier loader) {
+        return load(QueryKey.COUNT, loader::getAsLong);
+    }
+
+    /**
+     * Drops every cached result of the entity
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public CrudXBoundedCache<?, ?> getResults() {
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R load(QueryKey key, Supplier<R> loader) {
+        long current = generation.get();
+        Result cached = results.get(key);
+        if (cached != null && cached.generation() == current
+                && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+            return (R) cached.value();
+        }
+
+        R value = loader.get();
+        // A write during the load makes the result suspect: return it, but do not keep it
+        if (value != null && generation.get() == current) {
+            results.put(key, new Result(value, current, System.nanoTime()));
+        }
+        return value;
+    }
+
+    private record Result(Object value, long generation, long loadedAt) {
+    }
+
+    /**
+     * Normalized query shape: equal requests map to equal keys regardless of path order
+     */
+    private record QueryKey(char kind, long offset, int size, String sort, String fetchPaths) {
+
+        static final QueryKey COUNT = new QueryKey('C', 0L, 0, "", "");
+
+        static QueryKey list(Sort sort, Set<String> fetchPaths) {
+            return new QueryKey('L', 0L, 0, normalize(sort), normalize(fetchPaths));
+        }
+
+        static QueryKey page(Pageable pageable, Set<String> fetchPaths) {
+            if (pageable.isUnpaged()) {
+                return new QueryKey('P', -1L, 0, normalize(pageable.getSort()), normalize(fetchPaths));
+            }
+            return new QueryKey('P', pageable.getOffset(), pageable.getPageSize(),
+                    normalize(pageable.getSort()), normalize(fetchPaths));
+        }
+
+        private static String normalize(Sort sort) {
+            return sort == null || sort.isUnsorted() ? "" : sort.toString();
+        }
+
+        private static String normalize(Set<String> fetchPaths) {
+            return fetchPaths == null || fetchPaths.isEmpty() ? "" : String.join(",", new TreeSet<>(fetchPaths));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CrudXQueryCache} per entity class, created on first use.
+ *
+ * <p>Controllers read through {@link #forEntity(Class)}; writes reach it through
+ * {@link CrudXCacheInvalidator}.</p>
+ */
+public class CrudXQueryCacheManager {
+
+    private final ConcurrentHashMap<Class<?>, CrudXQueryCache> caches = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ObjectProvider<CrudXMetricsPublisher> metricsPublisher;
+
+    public CrudXQueryCacheManager(int maxEntries, long ttlMillis,
+                                  ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.metricsPublisher = metricsPublisher;
+    }
+
+    public CrudXQueryCache forEntity(Class<?> entityClass) {
+        CrudXQueryCache cache = caches.get(entityClass);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(entityClass, type -> {
+            CrudXQueryCache created = new CrudXQueryCache("query:" + type.getSimpleName(), maxEntries, ttlMillis);
+            // Caches created after startup; the publisher registers earlier ones itself
+            metricsPublisher.ifAvailable(publisher -> publisher.registerCache(created.getResults()));
+            return created;
+        });
+    }
+
+    public void invalidate(Class<?> entityClass) {
+        forEntity(entityClass).invalidate();
+    }
+
+    /**
+     * The cache of an entity by class name, or {@code null} when this node never used it
+     */
+    public CrudXQueryCache find(String entityClassName) {
+        for (var entry : caches.entrySet()) {
+            if (entry.getKey().getName().equals(entityClassName)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    public Collection<CrudXQueryCache> getCaches() {
+        return new ArrayList<>(caches.values());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        caches.forEach((type, cache) -> {
+            Map<String, Object> cacheStats = new LinkedHashMap<>(cache.getResults().getStats());
+            cacheStats.put("generation", cache.getGeneration());
+            stats.put(type.getSimpleName(), cacheStats);
+        });
+        return stats;
+    }
+}
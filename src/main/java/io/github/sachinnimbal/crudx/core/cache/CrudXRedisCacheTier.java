@@ -0,0 +1,90 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Shared tier on Redis: values under {@code region:key} with a TTL, invalidations over pub/sub.
+ * Values use JDK serialization so entities round-trip without extra mapping.
+ */
+@Slf4j
+public class CrudXRedisCacheTier implements CrudXSharedCacheTier, DisposableBean {
+
+    private final RedisTemplate<String, Object> redis;
+    private final RedisSerializer<Object> serializer;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public CrudXRedisCacheTier(RedisConnectionFactory connectionFactory, String topicName, ClassLoader classLoader) {
+        this.serializer = new JdkSerializationRedisSerializer(classLoader);
+        this.topic = new ChannelTopic(topicName);
+
+        this.redis = new RedisTemplate<>();
+        redis.setConnectionFactory(connectionFactory);
+        redis.setKeySerializer(RedisSerializer.string());
+        redis.setValueSerializer(serializer);
+        redis.afterPropertiesSet();
+
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public Object get(String region, Object key) {
+        return redis.opsForValue().get(key(region, key));
+    }
+
+    @Override
+    public void put(String region, Object key, Object value, Duration ttl) {
+        redis.opsForValue().set(key(region, key), value, ttl);
+    }
+
+    @Override
+    public boolean putIfAbsent(String region, Object key, Object value, Duration ttl) {
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(key(region, key), value, ttl));
+    }
+
+    @Override
+    public void evict(String region, Object key) {
+        redis.delete(key(region, key));
+    }
+
+    @Override
+    public void publish(CrudXCacheInvalidation invalidation) {
+        redis.convertAndSend(topic.getTopic(), invalidation);
+    }
+
+    @Override
+    public void subscribe(Consumer<CrudXCacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            if (serializer.deserialize(message.getBody()) instanceof CrudXCacheInvalidation invalidation) {
+                listener.accept(invalidation);
+            }
+        }, topic);
+    }
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    private static String key(String region, Object key) {
+        return region + ':' + key;
+    }
+}
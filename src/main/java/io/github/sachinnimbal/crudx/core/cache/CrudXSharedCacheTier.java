@@ -0,0 +1,46 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide second tier behind the per-JVM CrudX caches: a shared key/value store for
+ * entities plus a topic that carries invalidation messages to every node.
+ *
+ * <p>Values and messages cross the network, so they must be {@link java.io.Serializable}
+ * (CrudX entities are). Implementations: {@link CrudXHazelcastCacheTier},
+ * {@link CrudXRedisCacheTier}.</p>
+ */
+public interface CrudXSharedCacheTier {
+
+    /**
+     * @return the shared value, or {@code null} when absent
+     */
+    Object get(String region, Object key);
+
+    void put(String region, Object key, Object value, Duration ttl);
+
+    /**
+     * Stores the value only when the key holds nothing (atomically across the cluster)
+     *
+     * @return whether the value was stored
+     */
+    boolean putIfAbsent(String region, Object key, Object value, Duration ttl);
+
+    void evict(String region, Object key);
+
+    /**
+     * Sends an invalidation to every node, including this one
+     */
+    void publish(CrudXCacheInvalidation invalidation);
+
+    /**
+     * Registers the handler for invalidations published by any node
+     */
+    void subscribe(Consumer<CrudXCacheInvalidation> listener);
+
+    /**
+     * Short name for logs
+     */
+    String getName();
+}
@@ -0,0 +1,74 @@
+package io.github.sachinnimbal.crudx.core.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads onto one execution.
+ *
+ * <p>The first caller for a key runs the loader; callers arriving while it is in flight wait
+ * for the same result (or exception) instead of repeating the work. Nothing is cached: the
+ * key is released as soon as the flight completes, so the next read loads fresh data.</p>
+ */
+public class CrudXSingleFlight<K> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Runs {@code loader}, or joins the identical call already in flight
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(K key, Supplier<R> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return (R) await(existing);
+        }
+
+        executions.increment();
+        try {
+            R value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * Calls served by joining another caller's flight
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Followers see the leader's exception as is, not wrapped
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.sachinnimbal.crudx.core.config;
+
+import com.hazelcast.core.HazelcastInstance;
+import io.github.sachinnimbal.crudx.core.cache.CrudXCacheInvalidator;
+import io.github.sachinnimbal.crudx.core.cache.CrudXEntityCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXHazelcastCacheTier;
+import io.github.sachinnimbal.crudx.core.cache.CrudXNegativeCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXQueryCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXRedisCacheTier;
+import io.github.sachinnimbal.crudx.core.cache.CrudXSharedCacheTier;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result caching in front of the CrudX services ({@code crudx.cache.*}).
+ *
+ * <ul>
+ *     <li>Query cache: getAll/getPaged/count results per entity, local to the JVM</li>
+ *     <li>Entity cache: getById near-cache, optionally backed by a shared Hazelcast or Redis tier</li>
+ *     <li>Negative cache: ids getById/exists recently did not find, local to the JVM</li>
+ *     <li>Invalidator: evicts them on every CrudX write and, with a shared tier, broadcasts the
+ *     eviction to the other nodes</li>
+ * </ul>
+ * All caches are opt-in, since cached entities are shared between requests.
+ */
+@Slf4j
+@Configuration
+public class CrudXCacheConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudx.cache", name = "query-enabled", havingValue = "true")
+    public CrudXQueryCacheManager crudxQueryCacheManager(CrudXProperties properties,
+                                                         ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        CrudXProperties.Cache cache = properties.getCache();
+        log.info("✓ Query result cache: ENABLED ({} entries/entity, TTL {}s)",
+                cache.getQueryMaxEntries(), cache.getQueryTtlSeconds());
+        return new CrudXQueryCacheManager(cache.getQueryMaxEntries(),
+                TimeUnit.SECONDS.toMillis(cache.getQueryTtlSeconds()), metricsPublisher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudx.cache", name = "entity-enabled", havingValue = "true")
+    public CrudXEntityCacheManager crudxEntityCacheManager(CrudXProperties properties,
+                                                           ObjectProvider<CrudXSharedCacheTier> sharedTier,
+                                                           ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        CrudXProperties.Cache cache = properties.getCache();
+        CrudXSharedCacheTier tier = sharedTier.getIfAvailable();
+        log.info("✓ Entity cache: ENABLED ({} entries/entity, TTL {}s, shared tier: {})",
+                cache.getEntityMaxEntries(), cache.getEntityTtlSeconds(), tier != null ? tier.getName() : "none");
+        Duration ttl = Duration.ofSeconds(cache.getEntityTtlSeconds());
+        // No read outlives the query timeout, so a tombstone that long outlasts every stale load
+        Duration evictionGrace = Duration.ofMillis(properties.getQueryTimeout());
+        if (evictionGrace.compareTo(ttl) > 0) {
+            evictionGrace = ttl;
+        }
+        return new CrudXEntityCacheManager(cache.getEntityMaxEntries(), ttl, evictionGrace, tier, metricsPublisher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "crudx.cache", name = "negative-enabled", havingValue = "true")
+    public CrudXNegativeCacheManager crudxNegativeCacheManager(CrudXProperties properties,
+                                                               ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
+        CrudXProperties.Cache cache = properties.getCache();
+        log.info("✓ Not-found cache: ENABLED ({} ids/entity, TTL {}s)",
+                cache.getNegativeMaxEntries(), cache.getNegativeTtlSeconds());
+        return new CrudXNegativeCacheManager(cache.getNegativeMaxEntries(),
+                TimeUnit.SECONDS.toMillis(cache.getNegativeTtlSeconds()), metricsPublisher);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${crudx.cache.query-enabled:false} or ${crudx.cache.entity-enabled:false}"
+            + " or ${crudx.cache.negative-enabled:false}")
+    public CrudXCacheInvalidator crudxCacheInvalidator(ObjectProvider<CrudXQueryCacheManager> queryCaches,
+                                                       ObjectProvider<CrudXEntityCacheManager> entityCaches,
+                                                       ObjectProvider<CrudXNegativeCacheManager> negativeCaches,
+                                                       ObjectProvider<CrudXSharedCacheTier> sharedTier) {
+        return new CrudXCacheInvalidator(queryCaches.getIfAvailable(), entityCaches.getIfAvailable(),
+                negativeCaches.getIfAvailable(), sharedTier.getIfAvailable());
+    }
+
+    /**
+     * Needs a HazelcastInstance bean (client or embedded member)
+     */
+    @Configuration
+    @ConditionalOnClass(name = "com.hazelcast.core.HazelcastInstance")
+    @ConditionalOnProperty(prefix = "crudx.cache", name = "shared-tier", havingValue = "hazelcast")
+    static class HazelcastSharedTier {
+
+        @Bean
+        @ConditionalOnMissingBean(CrudXSharedCacheTier.class)
+        public CrudXSharedCacheTier crudxHazelcastCacheTier(HazelcastInstance hazelcastInstance,
+                                                            CrudXProperties properties) {
+            return new CrudXHazelcastCacheTier(hazelcastInstance, properties.getCache().getInvalidationTopic());
+        }
+    }
+
+    /**
+     * Needs a RedisConnectionFactory bean (spring-boot-starter-data-redis)
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.connection.RedisConnectionFactory")
+    @ConditionalOnProperty(prefix = "crudx.cache", name = "shared-tier", havingValue = "redis")
+    static class RedisSharedTier {
+
+        @Bean
+        @ConditionalOnMissingBean(CrudXSharedCacheTier.class)
+        public CrudXSharedCacheTier crudxRedisCacheTier(RedisConnectionFactory connectionFactory,
+                                                        CrudXProperties properties) {
+            return new CrudXRedisCacheTier(connectionFactory, properties.getCache().getInvalidationTopic(),
+                    getClass().getClassLoader());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.sachinnimbal.crudx.core.config;
+
+import io.github.sachinnimbal.crudx.core.interceptor.CrudXJfrInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Always-on JDK Flight Recorder instrumentation for CrudX requests.
+ *
+ * <p>Events are only recorded while a JFR recording enables them, e.g.
+ * {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}; individual events can be
+ * switched off in the recording settings ({@code io.github.sachinnimbal.crudx.Request#enabled=false}).</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(name = "jdk.jfr.Event")
+public class CrudXJfrConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new CrudXJfrInterceptor()).addPathPatterns("/**");
+        log.debug("CrudX JFR request events registered");
+    }
+}
@@ -27,6 +27,20 @@ public class CrudXProperties {
      */
     private int queryTimeout = 30000;
 
+    /**
+     * Use the compile-time index (META-INF/crudx/index) instead of classpath scanning when present
+     * Default: true
+     */
+    private boolean useIndex = true;
+
+    /**
+     * Maximum unexpected endpoint failures logged with a stack trace per controller per minute
+     * Further failures are counted and reported with the next logged one; 0 logs every failure
+     * Expected failures (not found, duplicate, invalid input) are never logged by the controller
+     * Default: 10
+     */
+    private int errorLogsPerMinute = 10;
+
     // ==================== DATABASE PROPERTIES ====================
 
     private Database database = new Database();
@@ -88,6 +102,26 @@ public class CrudXProperties {
          */
         private boolean cacheEnabled = true;
 
+        /**
+         * Maximum entries per runtime mapper cache (mapping plans, constructors, field metadata)
+         * Cold entries are evicted first once this size is exceeded
+         * Default: 256
+         */
+        private int cacheMaxSize = 256;
+
+        /**
+         * Maximum number of cached field accessors (getter/setter method handles)
+         * Default: 2048
+         */
+        private int accessorCacheMaxSize = 2048;
+
+        /**
+         * Minimum list size for parallel, order-preserving response mapping
+         * Lists are split into one chunk per CPU core; set to 0 to always map sequentially
+         * Default: 1000
+         */
+        private int parallelThreshold = 1000;
+
         /**
          * Log DTO mapping operations
          * Default: true
@@ -120,11 +154,19 @@ public class CrudXProperties {
         private String dashboardPath = "/crudx/performance";
 
         /**
-         * Maximum number of metrics to store in memory
+         * Number of recent request samples kept for the dashboard timeline
+         * (fixed-size ring, rounded up to a power of two; aggregates are not limited by it)
          * Default: 1000
          */
         private int maxStoredMetrics = 1000;
 
+        /**
+         * Maximum number of distinct endpoints tracked individually
+         * Further endpoints are aggregated into a single overflow bucket
+         * Default: 200
+         */
+        private int maxEndpoints = 200;
+
         /**
          * Enable memory usage tracking (may impact performance)
          * Default: false
@@ -132,10 +174,173 @@ public class CrudXProperties {
         private boolean trackMemory = false;
 
         /**
-         * Metrics retention period in minutes
+         * How long recent samples stay on the dashboard timeline, in minutes
+         * (aggregates use rolling 60 x 1s / 60 x 1m windows and need no cleanup)
          * Default: 60 minutes
          */
         private int retentionMinutes = 60;
+
+        /**
+         * Record one in N requests (1 = every request)
+         * Errors and slow requests are always recorded; sampled requests are weighted by N
+         * so counts and percentiles remain estimates of the full traffic
+         * Default: 1
+         */
+        private int sampleRate = 1;
+
+        /**
+         * Requests slower than this are always recorded, even when sampling
+         * Default: 1000 ms
+         */
+        private long slowRequestThresholdMs = 1000;
+
+        /**
+         * Number of slowest requests kept with their SQL/Mongo statement breakdown
+         * Default: 10
+         */
+        private int slowRequestLogSize = 10;
+
+        /**
+         * Count SQL/Mongo statements per request (Hibernate statement inspector, Mongo command listener)
+         * Feeds the slow-request breakdown and N+1 detection
+         * Default: true
+         */
+        private boolean statementTracking = true;
+
+        /**
+         * Flag a request as a possible N+1 when one statement runs at least this many times
+         * (and, when the row count is known, about once per row); 0 disables the warning
+         * Default: 10
+         */
+        private int repeatedStatementThreshold = 10;
+    }
+
+    // ==================== CACHE PROPERTIES ====================
+
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        /**
+         * Cache getAll/getPaged/count results per entity; any CrudX write on the entity invalidates them
+         * Cached entities are shared between requests and detached: lifecycle hooks must not modify them
+         * and DTOs must not rely on lazy associations that were not expanded
+         * Default: false
+         */
+        private boolean queryEnabled = false;
+
+        /**
+         * Maximum cached query results per entity (distinct page/sort/expand combinations)
+         * Default: 500
+         */
+        private int queryMaxEntries = 500;
+
+        /**
+         * Maximum age of a cached query result, bounding staleness from writes made outside CrudX
+         * Default: 60 seconds
+         */
+        private long queryTtlSeconds = 60;
+
+        /**
+         * Near-cache getById results (reads without expand) per entity; CrudX updates and deletes evict them
+         * Same caveats as the query cache; with a shared tier, entities must also survive serialization
+         * Default: false
+         */
+        private boolean entityEnabled = false;
+
+        /**
+         * Maximum locally cached entities per entity type
+         * Default: 10,000
+         */
+        private int entityMaxEntries = 10000;
+
+        /**
+         * Maximum age of a cached entity in both tiers
+         * Default: 300 seconds
+         */
+        private long entityTtlSeconds = 300;
+
+        /**
+         * Remember ids that getById/exists did not find, answering repeated lookups of them without
+         * a database round trip; CrudX inserts of the id (or batch inserts of the entity) evict them
+         * Default: false
+         */
+        private boolean negativeEnabled = false;
+
+        /**
+         * Maximum remembered missing ids per entity type
+         * Default: 10,000
+         */
+        private int negativeMaxEntries = 10000;
+
+        /**
+         * How long an id stays "not found", bounding staleness from inserts made outside CrudX
+         * Default: 10 seconds
+         */
+        private long negativeTtlSeconds = 10;
+
+        /**
+         * Shared second tier for multi-node deployments: none, hazelcast (needs a HazelcastInstance bean)
+         * or redis (needs a RedisConnectionFactory bean); it also carries invalidations to every node,
+         * including those of the query cache; a row written through CrudX is kept out of the shared tier
+         * for crudx.query-timeout, so a node that read the old row cannot put it back
+         * Default: none
+         */
+        private String sharedTier = "none";
+
+        /**
+         * Hazelcast topic / Redis channel for invalidation messages
+         * Default: crudx-cache-invalidation
+         */
+        private String invalidationTopic = "crudx-cache-invalidation";
+
+        /**
+         * Collapse concurrent identical reads (getById/getAll/getPaged with the same id or page, sort and expand)
+         * onto one database fetch and mapping; the response and the after-find hooks are shared by all callers
+         * Only safe when hooks and DTO mapping do not depend on the caller (security context, tenant, locale):
+         * concurrent callers with the same key all receive the first caller's response
+         * Default: false
+         */
+        private boolean coalesceReads = false;
+
+        /**
+         * Send ETag/Last-Modified on getById (from id + audit.updatedAt) and answer If-None-Match /
+         * If-Modified-Since with 304 after a single-column lookup, without loading or mapping the entity
+         * A 304 skips afterFindById/afterFindPaged: only enable it when those hooks do not enforce access
+         * or filtering, since a 304 also confirms that the row exists
+         * Default: false
+         */
+        private boolean etagEnabled = false;
+
+        /**
+         * Also send ETags on getPaged (from row count + max audit.updatedAt), at the cost of one aggregate
+         * query per page request; index audit.updatedAt before enabling it on large tables
+         * Requires etag-enabled; same caveat about skipped after-find hooks
+         * Default: false
+         */
+        private boolean pageEtagEnabled = false;
+    }
+
+    // ==================== MICROMETER EXPORT PROPERTIES ====================
+
+    private Metrics metrics = new Metrics();
+
+    @Data
+    public static class Metrics {
+        /**
+         * Publish CrudX timers, counters and gauges to Micrometer when a MeterRegistry is present
+         * Request timers additionally require crudx.performance.enabled=true
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Publish percentile histogram buckets with CrudX timers (for histogram_quantile in Prometheus)
+         * Adds dozens of bucket series per timer and endpoint; off by default like Boot's
+         * management.metrics.distribution.percentiles-histogram
+         * Default: false
+         */
+        private boolean percentileHistogram = false;
     }
 
     // ==================== SWAGGER/API DOCUMENTATION PROPERTIES ====================
@@ -1,6 +1,7 @@
 package io.github.sachinnimbal.crudx.core.config;
 
 import io.github.sachinnimbal.crudx.core.enums.DatabaseType;
+import io.github.sachinnimbal.crudx.core.index.CrudXIndex;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
 import io.github.sachinnimbal.crudx.core.model.CrudXMongoEntity;
 import io.github.sachinnimbal.crudx.core.model.CrudXMySQLEntity;
@@ -15,13 +16,14 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
-import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.env.Environment;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -32,6 +34,7 @@ import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.github.sachinnimbal.crudx.core.enums.DatabaseType.*;
@@ -66,6 +69,7 @@ public class CrudXServiceAutoConfiguration implements BeanDefinitionRegistryPost
 
         String[] beanNames = registry.getBeanDefinitionNames();
         int servicesCreated = 0;
+        CrudXIndex index = loadIndex();
 
         for (String beanName : beanNames) {
             BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
@@ -74,31 +78,46 @@ public class CrudXServiceAutoConfiguration implements BeanDefinitionRegistryPost
             if (beanClassName == null) continue;
 
             try {
-                Class<?> beanClass = Class.forName(beanClassName);
+                EntityInfo entityInfo;
 
-                if (CrudXController.class.isAssignableFrom(beanClass) &&
-                        !CrudXController.class.equals(beanClass)) {
+                // 🔥 Indexed: plain name lookup
+                Optional<CrudXIndex.Entry> entry = index != null
+                        ? index.findByController(beanClassName) : Optional.empty();
+                if (entry.isPresent()) {
+                    entityInfo = toEntityInfo(entry.get());
+                } else {
+                    // Not indexed: no index, or a module/jar/stale build without the annotation processor
+                    if (index != null && isFrameworkClass(beanClassName)) continue;
 
-                    EntityInfo entityInfo = extractEntityInfo(beanClass);
+                    Class<?> beanClass = Class.forName(beanClassName);
+                    if (!CrudXController.class.isAssignableFrom(beanClass) ||
+                            CrudXController.class.equals(beanClass)) {
+                        continue;
+                    }
+                    if (index != null) {
+                        log.warn("⚠️  Controller {} is missing from the CrudX index - resolved by reflection " +
+                                "(build its module with the CrudX annotation processor)", beanClassName);
+                    }
+                    entityInfo = extractEntityInfo(beanClass);
+                }
 
-                    if (entityInfo != null) {
-                        String entityKey = entityInfo.entityClass.getName();
+                if (entityInfo != null) {
+                    String entityKey = entityInfo.entityClass.getName();
 
-                        if (!processedEntities.contains(entityKey)) {
-                            if (entityInfo.databaseType == MYSQL ||
-                                    entityInfo.databaseType == POSTGRESQL) {
-                                discoveredSQLEntities.add(entityInfo.entityClass);
-                            }
+                    if (!processedEntities.contains(entityKey)) {
+                        if (entityInfo.databaseType == MYSQL ||
+                                entityInfo.databaseType == POSTGRESQL) {
+                            discoveredSQLEntities.add(entityInfo.entityClass);
+                        }
 
-                            registerServiceBean(registry, entityInfo);
-                            processedEntities.add(entityKey);
-                            servicesCreated++;
+                        registerServiceBean(registry, entityInfo);
+                        processedEntities.add(entityKey);
+                        servicesCreated++;
 
-                            log.info(" {} -> {} ({})",
-                                    entityInfo.entityClass.getSimpleName(),
-                                    entityInfo.serviceBeanName,
-                                    entityInfo.databaseType);
-                        }
+                        log.info(" {} -> {} ({})",
+                                entityInfo.entityClass.getSimpleName(),
+                                entityInfo.serviceBeanName,
+                                entityInfo.databaseType);
                     }
                 }
             } catch (ClassNotFoundException e) {
@@ -112,11 +131,98 @@ public class CrudXServiceAutoConfiguration implements BeanDefinitionRegistryPost
             log.info("Auto-generated {} service bean(s) successfully", servicesCreated);
         }
 
+        if (index != null) {
+            registerIndexedMapperBeans(registry, index);
+        }
+
         if (!discoveredSQLEntities.isEmpty()) {
             log.info("Discovered {} SQL entity/entities for JPA registration", discoveredSQLEntities.size());
         }
     }
 
+    /**
+     * Beans that can never be CrudX controllers, skipped without class loading when an index is present
+     */
+    private static boolean isFrameworkClass(String beanClassName) {
+        return beanClassName.startsWith("org.springframework.") ||
+                beanClassName.startsWith("io.github.sachinnimbal.crudx.");
+    }
+
+    /**
+     * Compile-time index, or null when absent or disabled (crudx.use-index=false)
+     */
+    private CrudXIndex loadIndex() {
+        // Environment is not autowired into registry post-processors; read it from the context
+        Environment env = applicationContext != null ? applicationContext.getEnvironment() : environment;
+        if (env != null && !env.getProperty("crudx.use-index", Boolean.class, true)) {
+            return null;
+        }
+
+        ClassLoader classLoader = applicationContext != null
+                ? applicationContext.getClassLoader() : getClass().getClassLoader();
+        CrudXIndex index = CrudXIndex.load(classLoader).orElse(null);
+
+        if (index != null) {
+            log.info("Using compile-time CrudX index ({} entities) - classpath scan skipped", index.size());
+        } else {
+            log.debug("No CrudX index found - scanning bean definitions");
+        }
+        return index;
+    }
+
+    /**
+     * Registers generated mappers named by the index as plain class-based definitions here,
+     * at registry post-processing time, so Spring AOT sees them and can pre-generate them.
+     * CrudXMapperRegistry keeps these and only adds runtime mappers for the rest.
+     */
+    private void registerIndexedMapperBeans(BeanDefinitionRegistry registry, CrudXIndex index) {
+        Environment env = applicationContext != null ? applicationContext.getEnvironment() : environment;
+        if (env != null && !env.getProperty("crudx.dto.enabled", Boolean.class, true)) {
+            return;
+        }
+
+        ClassLoader classLoader = applicationContext != null
+                ? applicationContext.getClassLoader() : getClass().getClassLoader();
+        int mappersRegistered = 0;
+
+        for (CrudXIndex.Entry entry : index.getEntries()) {
+            String mapperClassName = entry.getMapperClassName();
+            if (mapperClassName == null) continue;
+
+            String entityName = entry.getEntityClassName();
+            String simpleName = entityName.substring(entityName.lastIndexOf('.') + 1);
+            String beanName = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1) + "MapperCrudX";
+            if (registry.containsBeanDefinition(beanName)) continue;
+
+            try {
+                Class<?> mapperClass = Class.forName(mapperClassName, false, classLoader);
+                registry.registerBeanDefinition(beanName, new RootBeanDefinition(mapperClass));
+                mappersRegistered++;
+            } catch (ClassNotFoundException e) {
+                log.debug("Indexed mapper not on classpath: {}", mapperClassName);
+            }
+        }
+
+        if (mappersRegistered > 0) {
+            log.info("Registered {} compiled mapper bean(s) from index", mappersRegistered);
+        }
+    }
+
+    private EntityInfo toEntityInfo(CrudXIndex.Entry entry) throws ClassNotFoundException {
+        if (entry.getDatabaseType() == null || entry.getIdClassName() == null) {
+            log.warn("Entity {} does not extend any CrudX database-specific entity class",
+                    entry.getEntityClassName());
+            return null;
+        }
+
+        ClassLoader classLoader = applicationContext != null
+                ? applicationContext.getClassLoader() : getClass().getClassLoader();
+        Class<?> entityClass = Class.forName(entry.getEntityClassName(), false, classLoader);
+        Class<?> idClass = Class.forName(entry.getIdClassName(), false, classLoader);
+
+        return new EntityInfo(entityClass, idClass, DatabaseType.valueOf(entry.getDatabaseType()));
+    }
+
     private EntityInfo extractEntityInfo(Class<?> controllerClass) {
         Type genericSuperclass = controllerClass.getGenericSuperclass();
 
@@ -177,13 +283,16 @@ public class CrudXServiceAutoConfiguration implements BeanDefinitionRegistryPost
                 return;
         }
 
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder
-                .genericBeanDefinition(serviceImplClass)
-                .addConstructorArgValue(entityInfo.entityClass)
-                .setScope(BeanDefinition.SCOPE_SINGLETON)
-                .setLazyInit(false);
+        // Root definition with a resolved generic target type (e.g. DynamicSQLService<User, Long>):
+        // Spring AOT can generate plain constructor code for it and autowiring sees the real type
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(serviceImplClass);
+        beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(
+                serviceImplClass, entityInfo.entityClass, entityInfo.idClass));
+        beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(0, entityInfo.entityClass);
+        beanDefinition.setScope(BeanDefinition.SCOPE_SINGLETON);
+        beanDefinition.setLazyInit(false);
 
-        registry.registerBeanDefinition(entityInfo.serviceBeanName, builder.getBeanDefinition());
+        registry.registerBeanDefinition(entityInfo.serviceBeanName, beanDefinition);
     }
 
     @Transactional
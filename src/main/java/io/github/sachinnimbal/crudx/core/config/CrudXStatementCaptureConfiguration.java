@@ -0,0 +1,70 @@
+package io.github.sachinnimbal.crudx.core.config;
+
+import io.github.sachinnimbal.crudx.core.metrics.CrudXHibernateStatementListener;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMongoCommandListener;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks the data layers into {@link io.github.sachinnimbal.crudx.core.metrics.CrudXStatementCapture}
+ * so statements can be counted per request (N+1 detection) and slow requests reported with
+ * the statements they executed.
+ *
+ * <p>Hibernate: statement inspector + automatic session event listener, unless the application
+ * already configured its own. Mongo: command listener added to the client settings.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${crudx.performance.enabled:false} and ${crudx.performance.statement-tracking:true}")
+public class CrudXStatementCaptureConfiguration {
+
+    @Configuration
+    @ConditionalOnClass(name = {
+            "org.hibernate.resource.jdbc.spi.StatementInspector",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer"
+    })
+    static class HibernateStatementCapture {
+
+        @Bean
+        public HibernatePropertiesCustomizer crudxHibernateStatementCapture() {
+            return hibernateProperties -> {
+                boolean registered = false;
+                if (!hibernateProperties.containsKey(AvailableSettings.STATEMENT_INSPECTOR)) {
+                    hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new CrudXHibernateStatementListener());
+                    registered = true;
+                }
+                if (!hibernateProperties.containsKey(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER)) {
+                    hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                            CrudXHibernateStatementListener.class.getName());
+                } else {
+                    log.info("ℹ️  Custom Hibernate session listener present - SQL timings not captured");
+                }
+                if (registered) {
+                    log.info("✓ SQL statement capture: ENABLED (Hibernate)");
+                } else {
+                    log.info("ℹ️  Custom Hibernate statement inspector present - SQL capture disabled");
+                }
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = {
+            "com.mongodb.event.CommandListener",
+            "org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer"
+    })
+    static class MongoStatementCapture {
+
+        @Bean
+        public MongoClientSettingsBuilderCustomizer crudxMongoCommandCapture() {
+            log.info("✓ Mongo command capture: ENABLED");
+            return builder -> builder.addCommandListener(new CrudXMongoCommandListener());
+        }
+    }
+}
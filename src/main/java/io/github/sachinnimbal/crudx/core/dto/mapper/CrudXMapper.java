@@ -1,6 +1,7 @@
 package io.github.sachinnimbal.crudx.core.dto.mapper;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public interface CrudXMapper<E, R, S> {
@@ -11,6 +12,14 @@ public interface CrudXMapper<E, R, S> {
 
     S toResponse(E entity);
 
+    /**
+     * Maps an entity, traversing lazy nested fields only when their path is in {@code expand}.
+     * Mappers without lazy fields can rely on this default.
+     */
+    default S toResponse(E entity, Set<String> expand) {
+        return toResponse(entity);
+    }
+
     default List<S> toResponseList(List<E> entities) {
         if (entities == null) {
             return null;
@@ -20,6 +29,15 @@ public interface CrudXMapper<E, R, S> {
                 .collect(Collectors.toList());
     }
 
+    default List<S> toResponseList(List<E> entities, Set<String> expand) {
+        if (entities == null) {
+            return null;
+        }
+        return entities.stream()
+                .map(entity -> toResponse(entity, expand))
+                .collect(Collectors.toList());
+    }
+
     Class<E> getEntityClass();
 
     Class<R> getRequestClass();
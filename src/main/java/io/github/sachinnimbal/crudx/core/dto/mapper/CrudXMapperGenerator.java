@@ -1,9 +1,14 @@
 package io.github.sachinnimbal.crudx.core.dto.mapper;
 
+import io.github.sachinnimbal.crudx.core.cache.CrudXBoundedCache;
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXField;
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXNested;
+import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXResponse;
+import io.github.sachinnimbal.crudx.core.exception.CrudXValidationException;
+import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.lang.invoke.MethodHandle;
@@ -19,7 +24,6 @@ import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -30,26 +34,34 @@ public class CrudXMapperGenerator {
 
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final int MAX_DEPTH = 15;
-    private static final int PARALLEL_THRESHOLD = 100;
 
-    // 🔥 OPTIMIZATION: Reduce cache sizes to prevent memory bloat
-    private static final int CACHE_SIZE_LIMIT = 256;
-
-    // Caches with size limits
-    private final Map<String, MappingPlan> mappingPlanCache = new ConcurrentHashMap<>(CACHE_SIZE_LIMIT);
-    private final Map<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>(32);
-    private final Map<Class<?>, Constructor<?>> constructorCache = new ConcurrentHashMap<>(128);
-    private final Map<String, FieldAccessor> accessorCache = new ConcurrentHashMap<>(1024);
-    private final Map<Class<?>, Field[]> fieldCache = new ConcurrentHashMap<>(128);
-    private final Map<Class<?>, TypeConverter> typeConverterCache = new ConcurrentHashMap<>(64);
-
-    // 🔥 NEW: Object pooling for frequently created objects
-    private static final ThreadLocal<Map<Class<?>, Object>> OBJECT_POOL =
-            ThreadLocal.withInitial(() -> new WeakHashMap<>(16));
-
-    // Nested mapping depth tracker
-    private final ThreadLocal<Map<Object, Integer>> depthTracker =
-            ThreadLocal.withInitial(WeakHashMap::new);
+    // 🔥 OPTIMIZATION: Hard upper bounds so long-running apps with many DTO types can't bloat memory
+    private static final int DEFAULT_CACHE_SIZE_LIMIT = 256;
+    private static final int DEFAULT_ACCESSOR_CACHE_SIZE_LIMIT = 2048;
+
+    // Bounded, class-keyed caches (no string concatenation on lookup)
+    private final CrudXBoundedCache<PlanKey, MappingPlan> mappingPlanCache;
+    private final CrudXBoundedCache<String, DateTimeFormatter> formatters;
+    private final CrudXBoundedCache<Class<?>, Constructor<?>> constructorCache;
+    private final CrudXBoundedCache<AccessorKey, FieldAccessor> accessorCache;
+    private final CrudXBoundedCache<Class<?>, Field[]> fieldCache;
+    private final CrudXBoundedCache<Class<?>, TypeConverter> typeConverterCache;
+    private final CrudXBoundedCache<Class<?>, Set<String>> lazyFieldCache;
+
+    public CrudXMapperGenerator(Environment environment) {
+        int cacheLimit = environment.getProperty("crudx.dto.cache-max-size",
+                Integer.class, DEFAULT_CACHE_SIZE_LIMIT);
+        int accessorLimit = environment.getProperty("crudx.dto.accessor-cache-max-size",
+                Integer.class, DEFAULT_ACCESSOR_CACHE_SIZE_LIMIT);
+
+        this.mappingPlanCache = new CrudXBoundedCache<>("mappingPlans", cacheLimit);
+        this.formatters = new CrudXBoundedCache<>("formatters", 64);
+        this.constructorCache = new CrudXBoundedCache<>("constructors", cacheLimit);
+        this.accessorCache = new CrudXBoundedCache<>("accessors", accessorLimit);
+        this.fieldCache = new CrudXBoundedCache<>("fields", cacheLimit);
+        this.typeConverterCache = new CrudXBoundedCache<>("typeConverters", 64);
+        this.lazyFieldCache = new CrudXBoundedCache<>("lazyFields", cacheLimit);
+    }
 
     // ==================== PUBLIC API ====================
 
@@ -57,19 +69,15 @@ public class CrudXMapperGenerator {
         if (request == null) return null;
 
         try {
-            String planKey = request.getClass().getName() + "->" + entityClass.getName();
-            MappingPlan plan = mappingPlanCache.computeIfAbsent(planKey,
-                    k -> createMappingPlan(request.getClass(), entityClass, true));
+            MappingPlan plan = getMappingPlan(request.getClass(), entityClass, true);
 
             E entity = instantiateFast(entityClass);
-            executeMappingPlan(request, entity, plan, 0);
+            executeMappingPlan(request, entity, plan, new MappingContext(Collections.emptySet()), 0);
 
             return entity;
         } catch (Throwable e) {
             log.error("Fast mapping failed: {}", e.getMessage(), e);
             throw new RuntimeException("DTO mapping failed: " + e.getMessage(), e);
-        } finally {
-            depthTracker.get().clear();
         }
     }
 
@@ -77,36 +85,36 @@ public class CrudXMapperGenerator {
         if (request == null || entity == null) return;
 
         try {
-            String planKey = request.getClass().getName() + "->" + entity.getClass().getName() + ":UPDATE";
-            MappingPlan plan = mappingPlanCache.computeIfAbsent(planKey,
-                    k -> createMappingPlan(request.getClass(), entity.getClass(), true));
+            MappingPlan plan = getMappingPlan(request.getClass(), entity.getClass(), true);
 
-            executeMappingPlan(request, entity, plan, 0);
+            executeMappingPlan(request, entity, plan, new MappingContext(Collections.emptySet()), 0);
         } catch (Throwable e) {
             log.error("Fast update failed: {}", e.getMessage(), e);
             throw new RuntimeException("Update failed: " + e.getMessage(), e);
-        } finally {
-            depthTracker.get().clear();
         }
     }
 
     public <E, S> S toResponse(E entity, Class<S> responseClass) {
+        return toResponse(entity, responseClass, Collections.emptySet());
+    }
+
+    /**
+     * Maps an entity to a response DTO; lazy nested fields are only mapped if their
+     * path (e.g. {@code "customer"} or {@code "customer.address"}) is in {@code expansions}
+     */
+    public <E, S> S toResponse(E entity, Class<S> responseClass, Set<String> expansions) {
         if (entity == null) return null;
 
         try {
-            String planKey = entity.getClass().getName() + "->" + responseClass.getName();
-            MappingPlan plan = mappingPlanCache.computeIfAbsent(planKey,
-                    k -> createMappingPlan(entity.getClass(), responseClass, false));
+            MappingPlan plan = getMappingPlan(entity.getClass(), responseClass, false);
 
             S response = instantiateFast(responseClass);
-            executeMappingPlan(entity, response, plan, 0);
+            executeMappingPlan(entity, response, plan, new MappingContext(expansions), 0);
 
             return response;
         } catch (Throwable e) {
             log.error("Fast response mapping failed: {}", e.getMessage(), e);
             throw new RuntimeException("Response mapping failed: " + e.getMessage(), e);
-        } finally {
-            depthTracker.get().clear();
         }
     }
 
@@ -115,6 +123,10 @@ public class CrudXMapperGenerator {
      * Memory optimization: Process one at a time, no intermediate collection
      */
     public <E, S> List<S> toResponseList(List<E> entities, Class<S> responseClass) {
+        return toResponseList(entities, responseClass, Collections.emptySet());
+    }
+
+    public <E, S> List<S> toResponseList(List<E> entities, Class<S> responseClass, Set<String> expansions) {
         if (entities == null || entities.isEmpty()) return Collections.emptyList();
 
         long startNano = System.nanoTime();
@@ -123,13 +135,14 @@ public class CrudXMapperGenerator {
         List<S> result = new ArrayList<>(entities.size());
 
         // 🔥 CRITICAL: Cache the mapping plan ONCE outside loop
-        String planKey = entities.get(0).getClass().getName() + "->" + responseClass.getName();
-        MappingPlan plan = mappingPlanCache.computeIfAbsent(planKey,
-                k -> createMappingPlan(entities.get(0).getClass(), responseClass, false));
+        MappingPlan plan = getMappingPlan(entities.get(0).getClass(), responseClass, false);
 
         // 🔥 OPTIMIZATION: Batch constructor caching
         Constructor<S> constructor = getConstructorCached(responseClass);
 
+        // One context for the whole list: cycle tracking is identity-based and unwinds per element
+        MappingContext context = new MappingContext(expansions);
+
         try {
             for (E entity : entities) {
                 if (entity == null) {
@@ -139,13 +152,11 @@ public class CrudXMapperGenerator {
 
                 // 🔥 Zero-copy: Reuse mapping plan, no object creation overhead
                 S response = constructor.newInstance();
-                executeMappingPlan(entity, response, plan, 0);
+                executeMappingPlan(entity, response, plan, context, 0);
                 result.add(response);
             }
         } catch (Throwable e) {
             throw new RuntimeException("Batch mapping failed", e);
-        } finally {
-            depthTracker.get().clear();
         }
 
         if (log.isDebugEnabled()) {
@@ -162,33 +173,15 @@ public class CrudXMapperGenerator {
      * 🔥 NEW: Zero-allocation map conversion (no intermediate DTO objects)
      */
     public <E> Map<String, Object> toResponseMap(E entity, Class<?> responseClass) {
+        return toResponseMap(entity, responseClass, Collections.emptySet());
+    }
+
+    public <E> Map<String, Object> toResponseMap(E entity, Class<?> responseClass, Set<String> expansions) {
         if (entity == null) return null;
 
         try {
             // 🔥 Direct field extraction without creating intermediate object
-            Map<String, Object> map = new LinkedHashMap<>();
-
-            for (Field field : getFieldsFast(responseClass)) {
-                if (Modifier.isStatic(field.getModifiers())) continue;
-
-                try {
-                    String fieldName = field.getName();
-                    Field entityField = findFieldInHierarchy(entity.getClass(), fieldName);
-
-                    if (entityField != null) {
-                        entityField.setAccessible(true);
-                        Object value = entityField.get(entity);
-
-                        if (value != null) {
-                            map.put(fieldName, value);
-                        }
-                    }
-                } catch (Exception e) {
-                    log.trace("Field extraction failed: {}", field.getName());
-                }
-            }
-
-            return map;
+            return extractResponseMap(entity, getFieldsFast(responseClass), getLazyFields(responseClass), expansions);
         } catch (Throwable e) {
             log.error("Fast map conversion failed: {}", e.getMessage());
             return Collections.emptyMap();
@@ -199,49 +192,70 @@ public class CrudXMapperGenerator {
      * 🔥 NEW: Streaming map list conversion (zero intermediate objects)
      */
     public <E> List<Map<String, Object>> toResponseMapList(List<E> entities, Class<?> responseClass) {
+        return toResponseMapList(entities, responseClass, Collections.emptySet());
+    }
+
+    public <E> List<Map<String, Object>> toResponseMapList(List<E> entities, Class<?> responseClass,
+                                                           Set<String> expansions) {
         if (entities == null || entities.isEmpty()) return Collections.emptyList();
 
         List<Map<String, Object>> result = new ArrayList<>(entities.size());
 
         // 🔥 Cache field metadata once
         Field[] responseFields = getFieldsFast(responseClass);
+        Set<String> lazyFields = getLazyFields(responseClass);
 
         for (E entity : entities) {
             if (entity == null) {
                 result.add(null);
                 continue;
             }
+            result.add(extractResponseMap(entity, responseFields, lazyFields, expansions));
+        }
+
+        return result;
+    }
 
-            Map<String, Object> map = new LinkedHashMap<>();
+    private Map<String, Object> extractResponseMap(Object entity, Field[] responseFields,
+                                                   Set<String> lazyFields, Set<String> expansions) {
+        Map<String, Object> map = new LinkedHashMap<>();
 
-            for (Field field : responseFields) {
-                if (Modifier.isStatic(field.getModifiers())) continue;
+        for (Field field : responseFields) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
 
-                try {
-                    String fieldName = field.getName();
-                    Field entityField = findFieldInHierarchy(entity.getClass(), fieldName);
+            try {
+                String fieldName = field.getName();
+                Field entityField = findFieldInHierarchy(entity.getClass(), fieldName);
 
-                    if (entityField != null) {
-                        entityField.setAccessible(true);
-                        Object value = entityField.get(entity);
+                if (entityField != null) {
+                    entityField.setAccessible(true);
+                    Object value = entityField.get(entity);
 
-                        if (value != null) {
-                            map.put(fieldName, value);
-                        }
+                    // Unexpanded lazy association: emit an id reference without initializing it
+                    if (value != null && lazyFields.contains(fieldName) && !expansions.contains(fieldName)) {
+                        Object id = extractReferenceId(value);
+                        value = id != null ? Map.of("id", id) : null;
+                    }
+
+                    if (value != null) {
+                        map.put(fieldName, value);
                     }
-                } catch (Exception e) {
-                    // Skip field silently
                 }
+            } catch (Exception e) {
+                log.trace("Field extraction failed: {}", field.getName());
             }
-
-            result.add(map);
         }
 
-        return result;
+        return map;
     }
 
     // ==================== CORE ENGINE (OPTIMIZED) ====================
 
+    private MappingPlan getMappingPlan(Class<?> sourceClass, Class<?> targetClass, boolean isDTOToEntity) {
+        return mappingPlanCache.computeIfAbsent(new PlanKey(sourceClass, targetClass, isDTOToEntity),
+                k -> createMappingPlan(k.sourceClass(), k.targetClass(), k.dtoToEntity()));
+    }
+
     private MappingPlan createMappingPlan(Class<?> sourceClass, Class<?> targetClass, boolean isDTOToEntity) {
         MappingPlan plan = new MappingPlan();
         plan.sourceClass = sourceClass;
@@ -252,12 +266,15 @@ public class CrudXMapperGenerator {
         Class<?> dtoClass = isDTOToEntity ? sourceClass : targetClass;
         Class<?> entityClass = isDTOToEntity ? targetClass : sourceClass;
 
+        Set<String> lazyFields = isDTOToEntity ? Collections.emptySet() : getLazyFields(dtoClass);
+
         for (Field dtoField : getFieldsFast(dtoClass)) {
             if (shouldSkipField(dtoField)) continue;
 
             try {
                 FieldMapping mapping = createFieldMapping(dtoField, entityClass, isDTOToEntity);
                 if (mapping != null) {
+                    mapping.lazy = lazyFields.contains(dtoField.getName());
                     plan.fieldMappings.add(mapping);
                 }
             } catch (Exception e) {
@@ -303,17 +320,27 @@ public class CrudXMapperGenerator {
         mapping.fieldAnnotation = fieldAnnotation;
         mapping.nestedAnnotation = nestedAnnotation;
         mapping.isNested = nestedAnnotation != null || isComplexType(dtoField.getType());
+        mapping.dtoFieldName = dtoFieldName;
 
         return mapping;
     }
 
-    private void executeMappingPlan(Object source, Object target, MappingPlan plan, int currentDepth) throws Throwable {
-        Map<Object, Integer> depths = depthTracker.get();
-        if (depths.containsKey(source) && depths.get(source) >= currentDepth) {
+    private void executeMappingPlan(Object source, Object target, MappingPlan plan,
+                                    MappingContext context, int currentDepth) throws Throwable {
+        // Cycle guard: skip objects already being mapped higher up the current path
+        if (!context.enter(source)) {
             return;
         }
-        depths.put(source, currentDepth);
 
+        try {
+            applyFieldMappings(source, target, plan, context, currentDepth);
+        } finally {
+            context.exit(source);
+        }
+    }
+
+    private void applyFieldMappings(Object source, Object target, MappingPlan plan,
+                                    MappingContext context, int currentDepth) throws Throwable {
         for (FieldMapping mapping : plan.fieldMappings) {
             try {
                 Object value = mapping.sourceAccessor.get(source);
@@ -322,12 +349,20 @@ public class CrudXMapperGenerator {
                     continue;
                 }
 
+                if (mapping.lazy && !context.isExpanded(mapping.dtoFieldName)) {
+                    Object reference = createReference(value, mapping);
+                    if (reference != null) {
+                        mapping.targetAccessor.set(target, reference);
+                    }
+                    continue;
+                }
+
                 if (mapping.fieldAnnotation != null && !mapping.fieldAnnotation.transformer().isEmpty()) {
                     value = applyTransformer(value, mapping.fieldAnnotation.transformer(), source);
                 }
 
                 if (mapping.isNested && mapping.nestedAnnotation != null) {
-                    value = handleNestedMapping(value, mapping, currentDepth);
+                    value = handleNestedMapping(value, mapping, context, currentDepth);
                 } else if (mapping.needsConversion) {
                     value = convertTypeFast(value, mapping.sourceField.getType(),
                             mapping.targetField.getType(), mapping.fieldAnnotation);
@@ -428,9 +463,7 @@ public class CrudXMapperGenerator {
      */
     @SuppressWarnings("unchecked")
     private FieldAccessor createFastGetter(Field field, Class<?> clazz) throws Exception {
-        String cacheKey = clazz.getName() + "#GET#" + field.getName();
-
-        return accessorCache.computeIfAbsent(cacheKey, k -> {
+        return accessorCache.computeIfAbsent(new AccessorKey(clazz, field, true), k -> {
             try {
                 String methodName = "get" + capitalize(field.getName());
                 try {
@@ -488,9 +521,7 @@ public class CrudXMapperGenerator {
     }
 
     private FieldAccessor createFastSetter(Field field, Class<?> clazz) throws Exception {
-        String cacheKey = clazz.getName() + "#SET#" + field.getName();
-
-        return accessorCache.computeIfAbsent(cacheKey, k -> {
+        return accessorCache.computeIfAbsent(new AccessorKey(clazz, field, false), k -> {
             try {
                 String methodName = "set" + capitalize(field.getName());
                 try {
@@ -535,14 +566,13 @@ public class CrudXMapperGenerator {
     }
 
     public void clearCaches() {
-        mappingPlanCache.clear();
-        accessorCache.clear();
-        fieldCache.clear();
-        constructorCache.clear();
-        formatters.clear();
-        typeConverterCache.clear();
-        OBJECT_POOL.remove();
-        depthTracker.remove();
+        mappingPlanCache.invalidateAll();
+        accessorCache.invalidateAll();
+        fieldCache.invalidateAll();
+        constructorCache.invalidateAll();
+        formatters.invalidateAll();
+        typeConverterCache.invalidateAll();
+        lazyFieldCache.invalidateAll();
 
         log.info("✓ Runtime mapper caches cleared for fresh generation");
     }
@@ -557,6 +587,9 @@ public class CrudXMapperGenerator {
         log.debug("  • Constructors: {}", stats.get("constructors"));
         log.debug("  • Formatters: {}", stats.get("formatters"));
         log.debug("  • Type Converters: {}", stats.get("typeConverters"));
+        log.debug("  • Lazy Fields: {}", stats.get("lazyFields"));
+        log.debug("  • Evictions: {}", mappingPlanCache.getEvictionCount() + accessorCache.getEvictionCount()
+                + fieldCache.getEvictionCount() + constructorCache.getEvictionCount());
     }
 
     public Map<String, Integer> getCacheStats() {
@@ -567,12 +600,33 @@ public class CrudXMapperGenerator {
         stats.put("constructors", constructorCache.size());
         stats.put("formatters", formatters.size());
         stats.put("typeConverters", typeConverterCache.size());
+        stats.put("lazyFields", lazyFieldCache.size());
+        return stats;
+    }
+
+    /**
+     * Size, capacity and hit/miss/eviction counters for every runtime mapper cache
+     */
+    public Map<String, Map<String, Object>> getDetailedCacheStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (CrudXBoundedCache<?, ?> cache : getCaches()) {
+            stats.put(cache.getName(), cache.getStats());
+        }
         return stats;
     }
 
+    /**
+     * The runtime mapper caches, e.g. for exporting their sizes as gauges
+     */
+    public List<CrudXBoundedCache<?, ?>> getCaches() {
+        return List.of(mappingPlanCache, accessorCache, fieldCache,
+                constructorCache, formatters, typeConverterCache, lazyFieldCache);
+    }
+
     // ==================== TYPE CONVERSION ====================
 
-    private Object handleNestedMapping(Object value, FieldMapping mapping, int currentDepth) throws Throwable {
+    private Object handleNestedMapping(Object value, FieldMapping mapping, MappingContext context,
+                                       int currentDepth) throws Throwable {
         CrudXNested nested = mapping.nestedAnnotation;
 
         int maxDepth = nested != null ? nested.maxDepth() : 3;
@@ -580,19 +634,122 @@ public class CrudXMapperGenerator {
             return null;
         }
 
-        if (isCollectionType(value.getClass())) {
-            return mapNestedCollection(value, mapping, currentDepth + 1);
+        String parentPath = context.descend(mapping.dtoFieldName);
+        try {
+            if (isCollectionType(value.getClass())) {
+                return mapNestedCollection(value, mapping, context, currentDepth + 1);
+            }
+
+            Class<?> targetDtoClass = nested != null && nested.dtoClass() != void.class
+                    ? nested.dtoClass()
+                    : mapping.targetField.getType();
+
+            return mapNestedObject(value, targetDtoClass, context, currentDepth + 1);
+        } finally {
+            context.ascend(parentPath);
         }
+    }
 
-        Class<?> targetDtoClass = nested != null && nested.dtoClass() != void.class
-                ? nested.dtoClass()
+    // ==================== LAZY NESTED REFERENCES ====================
+
+    /**
+     * Names of DTO fields that must not be traversed unless expanded: fields marked
+     * {@code @CrudXNested(fetch = LAZY)}, or every nested field of a
+     * {@code @CrudXResponse(lazyNested = true)} DTO
+     */
+    private Set<String> getLazyFields(Class<?> dtoClass) {
+        return lazyFieldCache.computeIfAbsent(dtoClass, c -> {
+            CrudXResponse response = c.getAnnotation(CrudXResponse.class);
+            boolean classLazy = response != null && response.lazyNested();
+
+            Set<String> lazy = new HashSet<>();
+            for (Field field : getFieldsFast(c)) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+
+                CrudXNested nested = field.getAnnotation(CrudXNested.class);
+                if (nested != null && nested.fetch() == CrudXNested.FetchStrategy.LAZY) {
+                    lazy.add(field.getName());
+                } else if (classLazy && (nested != null || isAssociationType(field))) {
+                    lazy.add(field.getName());
+                }
+            }
+            return lazy.isEmpty() ? Collections.emptySet() : Set.copyOf(lazy);
+        });
+    }
+
+    private boolean isAssociationType(Field field) {
+        if (isCollectionType(field.getType())) {
+            Class<?> itemType = getCollectionItemType(field);
+            return itemType != null && isComplexType(itemType);
+        }
+        return isComplexType(field.getType());
+    }
+
+    /**
+     * Builds an id-only DTO for an unexpanded to-one association. Collections are
+     * skipped entirely since their ids can't be read without initializing them.
+     */
+    private Object createReference(Object value, FieldMapping mapping) throws Throwable {
+        if (value instanceof Collection || value instanceof Map) {
+            return null;
+        }
+
+        Object id = extractReferenceId(value);
+        if (id == null) {
+            return null;
+        }
+
+        Class<?> refClass = mapping.nestedAnnotation != null && mapping.nestedAnnotation.dtoClass() != void.class
+                ? mapping.nestedAnnotation.dtoClass()
                 : mapping.targetField.getType();
 
-        return toResponse(value, targetDtoClass);
+        Field idField = findFieldFast(refClass, "id");
+        if (idField == null || !isComplexType(refClass)) {
+            return null;
+        }
+
+        Object reference = instantiateFast(refClass);
+        Object convertedId = idField.getType().isInstance(id)
+                ? id
+                : convertTypeFast(id, id.getClass(), idField.getType(), null);
+        createFastSetter(idField, idField.getDeclaringClass()).set(reference, convertedId);
+        return reference;
+    }
+
+    /**
+     * Reads the identifier through the getter so JPA proxies answer from their
+     * identifier without hitting the database
+     */
+    private Object extractReferenceId(Object value) throws Exception {
+        if (value instanceof Collection || value instanceof Map) {
+            return null;
+        }
+        if (value instanceof CrudXBaseEntity<?> entity) {
+            return entity.getId();
+        }
+
+        Field idField = findFieldFast(value.getClass(), "id");
+        return idField != null ? createFastGetter(idField, value.getClass()).get(value) : null;
+    }
+
+    /**
+     * Nested objects share the caller's {@link MappingContext} instead of going through
+     * the public API, which would start a fresh one and lose cycle tracking.
+     */
+    private Object mapNestedObject(Object value, Class<?> targetDtoClass, MappingContext context,
+                                   int depth) throws Throwable {
+        if (value == null) return null;
+        if (context.isInProgress(value)) return null;
+
+        MappingPlan plan = getMappingPlan(value.getClass(), targetDtoClass, false);
+        Object response = instantiateFast(targetDtoClass);
+        executeMappingPlan(value, response, plan, context, depth);
+        return response;
     }
 
     @SuppressWarnings("unchecked")
-    private Object mapNestedCollection(Object collection, FieldMapping mapping, int depth) throws Throwable {
+    private Object mapNestedCollection(Object collection, FieldMapping mapping, MappingContext context,
+                                       int depth) throws Throwable {
         if (!(collection instanceof Collection)) return collection;
 
         Collection<?> sourceCollection = (Collection<?>) collection;
@@ -605,7 +762,7 @@ public class CrudXMapperGenerator {
 
         List<Object> mappedItems = new ArrayList<>(sourceCollection.size());
         for (Object item : sourceCollection) {
-            Object mappedItem = toResponse(item, itemDtoClass);
+            Object mappedItem = mapNestedObject(item, itemDtoClass, context, depth);
             if (mappedItem != null) mappedItems.add(mappedItem);
         }
 
@@ -671,7 +828,7 @@ public class CrudXMapperGenerator {
             try {
                 return Enum.valueOf(enumClass, value.toUpperCase());
             } catch (IllegalArgumentException e2) {
-                throw new IllegalArgumentException(
+                throw new CrudXValidationException(
                         String.format("Invalid enum value '%s' for type %s. Valid values: %s",
                                 value, enumClass.getSimpleName(),
                                 Arrays.toString(enumClass.getEnumConstants())));
@@ -807,6 +964,8 @@ public class CrudXMapperGenerator {
         Field targetField;
         boolean needsConversion;
         boolean isNested;
+        boolean lazy;
+        String dtoFieldName;
         CrudXField fieldAnnotation;
         CrudXNested nestedAnnotation;
     }
@@ -831,6 +990,57 @@ public class CrudXMapperGenerator {
         }
     }
 
+    /**
+     * Per-call mapping state, created by each top-level public method and passed down explicitly.
+     * Uses reference identity so Lombok {@code @Data} equals/hashCode on entities is never invoked
+     * (those would walk the entire object graph on every nested field).
+     */
+    private static final class MappingContext {
+        private final Map<Object, Boolean> inProgress = new IdentityHashMap<>(8);
+        private final Set<String> expansions;
+        private String path = "";
+
+        MappingContext(Set<String> expansions) {
+            this.expansions = expansions != null ? expansions : Collections.emptySet();
+        }
+
+        boolean isExpanded(String fieldName) {
+            return !expansions.isEmpty()
+                    && expansions.contains(path.isEmpty() ? fieldName : path + "." + fieldName);
+        }
+
+        /**
+         * Moves into a nested field and returns the previous path for {@link #ascend}
+         */
+        String descend(String fieldName) {
+            String parent = path;
+            path = parent.isEmpty() ? fieldName : parent + "." + fieldName;
+            return parent;
+        }
+
+        void ascend(String parentPath) {
+            path = parentPath;
+        }
+
+        boolean enter(Object source) {
+            return inProgress.put(source, Boolean.TRUE) == null;
+        }
+
+        void exit(Object source) {
+            inProgress.remove(source);
+        }
+
+        boolean isInProgress(Object source) {
+            return inProgress.containsKey(source);
+        }
+    }
+
+    private record PlanKey(Class<?> sourceClass, Class<?> targetClass, boolean dtoToEntity) {
+    }
+
+    private record AccessorKey(Class<?> owner, Field field, boolean getter) {
+    }
+
     private interface TypeConverter {
         Object convert(Object value, Class<?> sourceType, Class<?> targetType, CrudXField annotation);
     }
@@ -4,6 +4,7 @@ import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXRequest;
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXResponse;
 import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.index.CrudXIndex;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +49,9 @@ public class CrudXMapperRegistry {
 
     private boolean initialized = false;
 
+    // Compile-time index (META-INF/crudx/index), null when absent or disabled
+    private CrudXIndex index;
+
     @PostConstruct
     public void initialize() {
         if (!properties.getDto().isEnabled()) {
@@ -64,15 +68,31 @@ public class CrudXMapperRegistry {
         // Get scan packages from properties
         String scanPackages = properties.getDto().getScanPackages();
 
-        if (scanPackages.isEmpty()) {
+        if (properties.isUseIndex()) {
+            index = CrudXIndex.load(applicationContext.getClassLoader()).orElse(null);
+        }
+
+        if (index != null) {
+            // 🔥 Compile-time index: no classpath scanning, except for packages it knows nothing about
+            registerIndexedDTOs();
+            String uncoveredPackages = findPackagesNotInIndex(scanPackages);
+            if (uncoveredPackages.isEmpty()) {
+                scanPackages = "(compile-time index)";
+            } else {
+                log.warn("⚠️  No indexed DTOs under crudx.dto.scan-packages {} - scanning them", uncoveredPackages);
+                log.warn("   Build those modules with the CrudX annotation processor to skip the scan");
+                scanAndRegisterDTOs(uncoveredPackages);
+                scanPackages = "(compile-time index), " + uncoveredPackages;
+            }
+        } else if (scanPackages.isEmpty()) {
             log.warn("⚠️  No scan packages configured. Set 'crudx.dto.scan-packages' property.");
             log.warn("   Example: crudx.dto.scan-packages=com.example.controller,com.example.dto");
             return;
+        } else {
+            // Scan only specified packages
+            scanAndRegisterDTOs(scanPackages);
         }
 
-        // Scan only specified packages
-        scanAndRegisterDTOs(scanPackages);
-
         // Create mapper beans
         createMapperBeans();
 
@@ -86,6 +106,70 @@ public class CrudXMapperRegistry {
         initialized = true;
     }
 
+    private void registerIndexedDTOs() {
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        int total = 0;
+
+        for (CrudXIndex.Entry entry : index.getEntries()) {
+            for (String dtoClassName : entry.getRequestDTOs()) {
+                try {
+                    registerRequestDTO(Class.forName(dtoClassName, false, classLoader));
+                    total++;
+                } catch (ClassNotFoundException e) {
+                    log.error("❌ Failed to load indexed DTO: {}", dtoClassName);
+                }
+            }
+            for (String dtoClassName : entry.getResponseDTOs()) {
+                try {
+                    registerResponseDTO(Class.forName(dtoClassName, false, classLoader));
+                    total++;
+                } catch (ClassNotFoundException e) {
+                    log.error("❌ Failed to load indexed DTO: {}", dtoClassName);
+                }
+            }
+        }
+
+        log.info("📊 Total DTOs from index: {}", total);
+    }
+
+    /**
+     * Configured scan packages that contain no indexed DTO, e.g. a module or jar built without
+     * the annotation processor (comma-separated, empty when all are covered)
+     */
+    private String findPackagesNotInIndex(String scanPackages) {
+        if (scanPackages.isEmpty()) {
+            return "";
+        }
+
+        Set<String> indexedPackages = new HashSet<>();
+        for (CrudXIndex.Entry entry : index.getEntries()) {
+            for (String dtoClassName : entry.getRequestDTOs()) {
+                indexedPackages.add(packageOf(dtoClassName));
+            }
+            for (String dtoClassName : entry.getResponseDTOs()) {
+                indexedPackages.add(packageOf(dtoClassName));
+            }
+        }
+
+        StringJoiner uncovered = new StringJoiner(",");
+        for (String pkg : scanPackages.split(",")) {
+            String scanPackage = pkg.trim();
+            if (scanPackage.isEmpty()) continue;
+
+            boolean covered = indexedPackages.stream().anyMatch(indexed ->
+                    indexed.equals(scanPackage) || indexed.startsWith(scanPackage + "."));
+            if (!covered) {
+                uncovered.add(scanPackage);
+            }
+        }
+        return uncovered.toString();
+    }
+
+    private static String packageOf(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot > 0 ? className.substring(0, lastDot) : "";
+    }
+
     private void scanAndRegisterDTOs(String basePackages) {
         ClassPathScanningCandidateComponentProvider scanner =
                 new ClassPathScanningCandidateComponentProvider(false);
@@ -171,9 +255,10 @@ public class CrudXMapperRegistry {
 
             try {
                 // 🔥 CRITICAL: Check if compiled mapper class exists first
-                if (compiledMapperClassExists(entityClass)) {
+                Class<?> compiledMapperClass = findCompiledMapperClass(entityClass);
+                if (compiledMapperClass != null) {
                     // Register the compiled mapper class as a bean
-                    registerCompiledMapperBean(entityClass, registry);
+                    registerCompiledMapperBean(entityClass, compiledMapperClass, registry);
                     compiledCount++;
                     log.info("✓ Registered COMPILED mapper bean: {} for entity {}",
                             mapperBeanName, entityClass.getSimpleName());
@@ -204,35 +289,46 @@ public class CrudXMapperRegistry {
     }
 
     /**
-     * 🔥 NEW: Check if compiled mapper class exists
+     * 🔥 Resolve the generated mapper class: named directly by the index when present,
+     * otherwise probed by naming convention. Returns null when there is none.
      */
-    private boolean compiledMapperClassExists(Class<?> entityClass) {
-        try {
+    private Class<?> findCompiledMapperClass(Class<?> entityClass) {
+        String compiledMapperClassName;
+
+        Optional<CrudXIndex.Entry> entry = index != null
+                ? index.getEntry(entityClass.getName()) : Optional.empty();
+        if (entry.isPresent()) {
+            compiledMapperClassName = entry.get().getMapperClassName();
+            if (compiledMapperClassName == null) {
+                return null; // Indexed without a generated mapper
+            }
+        } else {
             String entityPackage = entityClass.getPackage().getName();
             String entitySimpleName = entityClass.getSimpleName();
-            String compiledMapperClassName = entityPackage + ".generated." +
+            compiledMapperClassName = entityPackage + ".generated." +
                     entitySimpleName + "MapperCrudX";
+        }
 
-            Class.forName(compiledMapperClassName);
-            return true;
+        try {
+            return Class.forName(compiledMapperClassName, false, applicationContext.getClassLoader());
         } catch (ClassNotFoundException e) {
-            return false;
+            return null;
         }
     }
 
     /**
      * 🔥 NEW: Register compiled mapper bean from generated class
      */
-    private void registerCompiledMapperBean(Class<?> entityClass, BeanDefinitionRegistry registry) {
+    private void registerCompiledMapperBean(Class<?> entityClass, Class<?> compiledMapperClass,
+                                            BeanDefinitionRegistry registry) {
         try {
-            String entityPackage = entityClass.getPackage().getName();
-            String entitySimpleName = entityClass.getSimpleName();
-            String compiledMapperClassName = entityPackage + ".generated." +
-                    entitySimpleName + "MapperCrudX";
-
-            Class<?> compiledMapperClass = Class.forName(compiledMapperClassName);
+            String compiledMapperClassName = compiledMapperClass.getName();
 
             String beanName = getMapperBeanName(entityClass);
+            if (registry.containsBeanDefinition(beanName)) {
+                log.debug("✓ Compiled mapper already registered from index: {}", beanName);
+                return;
+            }
 
             // Create bean definition for the compiled mapper
             BeanDefinitionBuilder builder = BeanDefinitionBuilder
@@ -1,8 +1,11 @@
 package io.github.sachinnimbal.crudx.core.dto.metadata;
 
+import io.github.sachinnimbal.crudx.core.dto.processor.CrudXDTOCompileTimeTracker;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -11,6 +14,7 @@ import java.util.*;
 
 /**
  * Reads compile-time DTO metadata generated by CrudXDTOCompileTimeTracker
+ * (one file per DTO, merged per entity here; the legacy aggregate file is still honoured)
  * Provides runtime access to DTO mapping information
  */
 @Slf4j
@@ -21,20 +25,28 @@ public class CrudXDTOMetadataReader {
     private final Map<String, EntityDTOInfo> metadata = new LinkedHashMap<>();
     private boolean metadataAvailable = false;
 
+    private static final String LEGACY_METADATA_FILE = "META-INF/crudx-dto-metadata.properties";
+
     @PostConstruct
     public void loadMetadata() {
-        try (InputStream is = getClass().getClassLoader()
-                .getResourceAsStream("META-INF/crudx-dto-metadata.properties")) {
+        try {
+            PathMatchingResourcePatternResolver resolver =
+                    new PathMatchingResourcePatternResolver(getClass().getClassLoader());
+
+            for (Resource resource : resolver.getResources(
+                    "classpath*:" + CrudXDTOCompileTimeTracker.METADATA_DIRECTORY + "*.properties")) {
+                parseDTOMetadata(loadProperties(resource));
+            }
+
+            for (Resource resource : resolver.getResources("classpath*:" + LEGACY_METADATA_FILE)) {
+                parseMetadata(loadProperties(resource));
+            }
 
-            if (is == null) {
+            if (metadata.isEmpty()) {
                 log.debug("No compile-time DTO metadata found (this is normal if no DTOs are configured)");
                 return;
             }
 
-            Properties props = new Properties();
-            props.load(is);
-
-            parseMetadata(props);
             metadataAvailable = true;
 
             log.info("✓ Loaded compile-time DTO metadata for {} entities", metadata.size());
@@ -45,6 +57,35 @@ public class CrudXDTOMetadataReader {
         }
     }
 
+    private Properties loadProperties(Resource resource) throws IOException {
+        Properties props = new Properties();
+        try (InputStream is = resource.getInputStream()) {
+            props.load(is);
+        }
+        return props;
+    }
+
+    private void parseDTOMetadata(Properties props) {
+        String entityName = props.getProperty("entity");
+        String dto = props.getProperty("dto");
+        if (entityName == null || dto == null) {
+            return;
+        }
+
+        EntityDTOInfo info = metadata.computeIfAbsent(entityName, EntityDTOInfo::new);
+        String name = props.getProperty("name", dto.substring(dto.lastIndexOf('.') + 1));
+
+        if ("request".equals(props.getProperty("kind")) && !info.requestDTOs.contains(dto)) {
+            info.requestDTOs.add(dto);
+            info.requestDTONames.add(name);
+            info.requestDTOCount++;
+        } else if ("response".equals(props.getProperty("kind")) && !info.responseDTOs.contains(dto)) {
+            info.responseDTOs.add(dto);
+            info.responseDTONames.add(name);
+            info.responseDTOCount++;
+        }
+    }
+
     private void parseMetadata(Properties props) {
         Set<String> entityNames = new HashSet<>();
 
@@ -57,8 +98,11 @@ public class CrudXDTOMetadataReader {
             }
         }
 
-        // Parse metadata for each entity
+        // Parse metadata for each entity (skipped when per-DTO files already describe it)
         for (String entityName : entityNames) {
+            if (metadata.containsKey(entityName)) {
+                continue;
+            }
             EntityDTOInfo info = new EntityDTOInfo(entityName);
 
             // Request DTOs
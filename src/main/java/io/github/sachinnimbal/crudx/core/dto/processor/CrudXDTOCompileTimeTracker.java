@@ -13,10 +13,15 @@ import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Emits one metadata file per annotated DTO (and kind) under {@code META-INF/crudx/dto/}, each with the
+ * DTO as its only originating element. This keeps the tracker an isolating processor for
+ * Gradle: changing a DTO only regenerates that DTO's file. {@link
+ * io.github.sachinnimbal.crudx.core.dto.metadata.CrudXDTOMetadataReader} merges them per entity.
+ */
 @AutoService(Processor.class)
 @SupportedAnnotationTypes({
         "io.github.sachinnimbal.crudx.core.dto.annotations.CrudXRequest",
@@ -26,8 +31,9 @@ import java.util.Set;
 @SupportedOptions("crudx.dto.enabled")
 public class CrudXDTOCompileTimeTracker extends AbstractProcessor {
 
-    private final Map<String, DTOMetadata> dtoMetadata = new LinkedHashMap<>();
-    private boolean processed = false;
+    public static final String METADATA_DIRECTORY = "META-INF/crudx/dto/";
+
+    private final Set<String> writtenDTOs = new HashSet<>();
     private boolean dtoEnabled = true;
 
     @Override
@@ -41,27 +47,19 @@ public class CrudXDTOCompileTimeTracker extends AbstractProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (!dtoEnabled) {
+        if (!dtoEnabled || annotations.isEmpty()) {
             return false;
         }
 
-        if (processed || annotations.isEmpty()) {
-            return false;
-        }
+        int written = 0;
 
         // Collect @CrudXRequest DTOs
         for (Element element : roundEnv.getElementsAnnotatedWith(CrudXRequest.class)) {
             if (element instanceof TypeElement dtoElement) {
                 CrudXRequest annotation = element.getAnnotation(CrudXRequest.class);
-                String entityTypeName = extractEntityTypeName(annotation);
-
-                DTOMetadata metadata = dtoMetadata.computeIfAbsent(
-                        entityTypeName,
-                        k -> new DTOMetadata(entityTypeName)
-                );
-
-                metadata.requestDTOs.add(dtoElement.getQualifiedName().toString());
-                metadata.requestDTOSimpleNames.add(dtoElement.getSimpleName().toString());
+                if (writeMetadataFile(dtoElement, "request", extractEntityTypeName(annotation))) {
+                    written++;
+                }
             }
         }
 
@@ -69,21 +67,17 @@ public class CrudXDTOCompileTimeTracker extends AbstractProcessor {
         for (Element element : roundEnv.getElementsAnnotatedWith(CrudXResponse.class)) {
             if (element instanceof TypeElement dtoElement) {
                 CrudXResponse annotation = element.getAnnotation(CrudXResponse.class);
-                String entityTypeName = extractEntityTypeName(annotation);
-
-                DTOMetadata metadata = dtoMetadata.computeIfAbsent(
-                        entityTypeName,
-                        k -> new DTOMetadata(entityTypeName)
-                );
-
-                metadata.responseDTOs.add(dtoElement.getQualifiedName().toString());
-                metadata.responseDTOSimpleNames.add(dtoElement.getSimpleName().toString());
+                if (writeMetadataFile(dtoElement, "response", extractEntityTypeName(annotation))) {
+                    written++;
+                }
             }
         }
 
-        if (!dtoMetadata.isEmpty()) {
-            generateMetadataFile();
-            processed = true;
+        if (written > 0) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    "✓ CrudX: Generated DTO metadata for " + written + " DTOs"
+            );
         }
 
         return false;
@@ -107,64 +101,37 @@ public class CrudXDTOCompileTimeTracker extends AbstractProcessor {
         return "Unknown";
     }
 
-    private void generateMetadataFile() {
+    private boolean writeMetadataFile(TypeElement dtoElement, String kind, String entityName) {
+        String dtoName = dtoElement.getQualifiedName().toString();
+        String fileName = dtoName + "." + kind + ".properties";
+        if (!writtenDTOs.add(fileName)) {
+            return false; // Already written in an earlier round
+        }
+
         try {
-            // Generate properties file in META-INF
             FileObject resource = processingEnv.getFiler().createResource(
                     StandardLocation.CLASS_OUTPUT,
                     "",
-                    "META-INF/crudx-dto-metadata.properties"
+                    METADATA_DIRECTORY + fileName,
+                    dtoElement
             );
 
             try (Writer writer = resource.openWriter()) {
                 writer.write("# CrudX DTO Compile-Time Metadata\n");
-                writer.write("# Generated at: " + java.time.Instant.now() + "\n");
-                writer.write("# Total entities with DTOs: " + dtoMetadata.size() + "\n\n");
-
-                for (Map.Entry<String, DTOMetadata> entry : dtoMetadata.entrySet()) {
-                    String entityName = entry.getKey();
-                    DTOMetadata metadata = entry.getValue();
-
-                    writer.write("# Entity: " + entityName + "\n");
-
-                    if (!metadata.requestDTOs.isEmpty()) {
-                        writer.write(entityName + ".request.count=" + metadata.requestDTOs.size() + "\n");
-                        writer.write(entityName + ".request.dtos=" + String.join(",", metadata.requestDTOs) + "\n");
-                        writer.write(entityName + ".request.names=" + String.join(",", metadata.requestDTOSimpleNames) + "\n");
-                    }
-
-                    if (!metadata.responseDTOs.isEmpty()) {
-                        writer.write(entityName + ".response.count=" + metadata.responseDTOs.size() + "\n");
-                        writer.write(entityName + ".response.dtos=" + String.join(",", metadata.responseDTOs) + "\n");
-                        writer.write(entityName + ".response.names=" + String.join(",", metadata.responseDTOSimpleNames) + "\n");
-                    }
-
-                    writer.write("\n");
-                }
+                writer.write("entity=" + entityName + "\n");
+                writer.write("kind=" + kind + "\n");
+                writer.write("dto=" + dtoName + "\n");
+                writer.write("name=" + dtoElement.getSimpleName() + "\n");
             }
-
-            processingEnv.getMessager().printMessage(
-                    Diagnostic.Kind.NOTE,
-                    "✓ CrudX: Generated DTO metadata for " + dtoMetadata.size() + " entities"
-            );
+            return true;
 
         } catch (IOException e) {
             processingEnv.getMessager().printMessage(
                     Diagnostic.Kind.ERROR,
-                    "Failed to generate DTO metadata: " + e.getMessage()
+                    "Failed to generate DTO metadata for " + dtoName + ": " + e.getMessage(),
+                    dtoElement
             );
+            return false;
         }
     }
-
-    private static class DTOMetadata {
-        final String entityName;
-        final java.util.List<String> requestDTOs = new java.util.ArrayList<>();
-        final java.util.List<String> requestDTOSimpleNames = new java.util.ArrayList<>();
-        final java.util.List<String> responseDTOs = new java.util.ArrayList<>();
-        final java.util.List<String> responseDTOSimpleNames = new java.util.ArrayList<>();
-
-        DTOMetadata(String entityName) {
-            this.entityName = entityName;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -22,6 +22,15 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
+/**
+ * Generates one {@code <Entity>MapperCrudX} per entity from its request/response DTOs.
+ *
+ * <p>Registered with Gradle as an aggregating incremental processor (see
+ * {@code META-INF/gradle/incremental.annotation.processors}). Each mapper declares the
+ * DTOs it was built from and its entity as originating elements, so Gradle only recompiles
+ * the mappers whose DTOs changed instead of the whole module. Mappers aggregate several
+ * DTOs, which rules out the isolating category.</p>
+ */
 @AutoService(Processor.class)
 @SupportedAnnotationTypes({
         "io.github.sachinnimbal.crudx.core.dto.annotations.CrudXRequest",
@@ -37,9 +46,9 @@ public class CrudXDTOProcessor extends AbstractProcessor {
     private Elements elementUtils;
     private Types typeUtils;
 
+    // Per-round: elements from one round must not leak into the next
     private final Map<String, EntityMapperContext> entityMappers = new LinkedHashMap<>();
     private final Set<String> generatedMappers = new HashSet<>();
-    private boolean hasProcessed = false;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -66,7 +75,7 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             return false;
         }
 
-        if (hasProcessed || annotations.isEmpty()) {
+        if (annotations.isEmpty()) {
             return false;
         }
 
@@ -88,10 +97,11 @@ public class CrudXDTOProcessor extends AbstractProcessor {
 
             if (!entityMappers.isEmpty()) {
                 generateAllMappers();
-                hasProcessed = true;
             }
         } catch (Exception e) {
             error("Critical error during processing: " + e.getMessage());
+        } finally {
+            entityMappers.clear();
         }
         return false;
     }
@@ -436,6 +446,9 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             String mapperFqn = generatedPackage + "." + mapperClassName;
 
             if (generatedMappers.contains(mapperFqn)) {
+                // A mapper can only be written once per compilation
+                logWarn("⚠️  DTOs for " + context.entitySimpleName + " found in a later round - "
+                        + mapperClassName + " was already generated");
                 continue;
             }
 
@@ -456,7 +469,8 @@ public class CrudXDTOProcessor extends AbstractProcessor {
         String basePackage = elementUtils.getPackageOf(context.entityElement).getQualifiedName().toString();
         String generatedPackage = basePackage + ".generated";
 
-        JavaFileObject sourceFile = filer.createSourceFile(generatedPackage + "." + mapperClassName);
+        JavaFileObject sourceFile = filer.createSourceFile(
+                generatedPackage + "." + mapperClassName, originatingElements(context));
 
         try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
             MapperWriter mapperWriter = new MapperWriter(
@@ -468,6 +482,29 @@ public class CrudXDTOProcessor extends AbstractProcessor {
         logInfo("✓ Generated: " + mapperClassName + " (" + context.nestedMappings.size() + " nested mappers)");
     }
 
+    /**
+     * The DTOs a mapper is generated from, plus its entity; nested DTOs are included
+     * because their fields are inlined into the generated nested mappers
+     */
+    private Element[] originatingElements(EntityMapperContext context) {
+        Set<Element> elements = new LinkedHashSet<>();
+        elements.add(context.entityElement);
+        elements.addAll(context.requestDTOs.keySet());
+        elements.addAll(context.responseDTOs.keySet());
+        for (NestedMapping mapping : context.nestedMappings.values()) {
+            addTypeElement(elements, mapping.dtoType);
+            addTypeElement(elements, mapping.entityType);
+        }
+        return elements.toArray(new Element[0]);
+    }
+
+    private void addTypeElement(Set<Element> elements, String fqn) {
+        TypeElement element = fqn != null ? elementUtils.getTypeElement(fqn) : null;
+        if (element != null) {
+            elements.add(element);
+        }
+    }
+
     // ==================== HELPER METHODS ====================
 
     String extractTypeName(TypeMirror type) {
@@ -794,6 +831,8 @@ public class CrudXDTOProcessor extends AbstractProcessor {
         private final Map<String, String> nestedMethodRegistry = new LinkedHashMap<>();
         private final String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         private int indentLevel = 0;
+        // Name of the expansion-set variable in scope, or null inside nested mappers (never expanded)
+        private String expandVar = null;
 
         MapperWriter(PrintWriter out, EntityMapperContext context, String packageName,
                      String className, Elements elementUtils, Types typeUtils, CrudXDTOProcessor processor) {
@@ -888,7 +927,9 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             imports.add("import java.time.ZonedDateTime;");
             imports.add("import java.time.format.DateTimeFormatter;");
             imports.add("import java.util.ArrayList;");
+            imports.add("import java.util.Collections;");
             imports.add("import java.util.List;");
+            imports.add("import java.util.Set;");
             imports.add("import java.util.stream.Collectors;");
 
             imports.add("import " + context.entityFqn + ";");
@@ -1248,6 +1289,21 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             writeln(" */");
             writeln("public " + dtoName + " to" + dtoName + "(" + entityName + " entity) {");
             indent();
+            writeln("return to" + dtoName + "(entity, Collections.emptySet());");
+            outdent();
+            writeln("}");
+            writeln();
+
+            writeln("/**");
+            writeln(" * Converts {@link " + entityName + "} to {@link " + dtoName + "}, traversing lazy");
+            writeln(" * nested fields only when their name is present in {@code expand}.");
+            writeln(" *");
+            writeln(" * @param entity the source entity");
+            writeln(" * @param expand the requested expansions (lazy nested field names)");
+            writeln(" * @return the response DTO, or null if input is null");
+            writeln(" */");
+            writeln("public " + dtoName + " to" + dtoName + "(" + entityName + " entity, Set<String> expand) {");
+            indent();
             writeln("if (entity == null) {");
             indent();
             writeln("return null;");
@@ -1255,7 +1311,9 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             writeln("}");
             writeln();
             writeln(dtoName + " dto = new " + dtoName + "();");
+            expandVar = "expand";
             copyFields(dtoElement, context.entityElement, "entity", "dto", false);
+            expandVar = null;
             writeln("return dto;");
             outdent();
             writeln("}");
@@ -1475,6 +1533,30 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             outdent();
             writeln("}");
             writeln();
+
+            writeln("/**");
+            writeln(" * {@inheritDoc}");
+            writeln(" */");
+            writeln("@Override");
+            writeln("public Object toResponse(" + context.entitySimpleName + " entity, Set<String> expand) {");
+            indent();
+            writeln("if (entity == null) {");
+            indent();
+            writeln("return null;");
+            outdent();
+            writeln("}");
+
+            if (!context.responseDTOs.isEmpty()) {
+                TypeElement firstDto = context.responseDTOs.keySet().iterator().next();
+                String dtoName = firstDto.getSimpleName().toString();
+                writeln("return to" + dtoName + "(entity, expand);");
+            } else {
+                writeln("return entity;");
+            }
+
+            outdent();
+            writeln("}");
+            writeln();
         }
 
         private void writeToResponseListOverride() {
@@ -1497,6 +1579,26 @@ public class CrudXDTOProcessor extends AbstractProcessor {
             outdent();
             writeln("}");
             writeln();
+
+            writeln("/**");
+            writeln(" * {@inheritDoc}");
+            writeln(" */");
+            writeln("@Override");
+            writeln("public List<Object> toResponseList(List<" + context.entitySimpleName + "> entities, Set<String> expand) {");
+            indent();
+            writeln("if (entities == null) {");
+            indent();
+            writeln("return null;");
+            outdent();
+            writeln("}");
+            writeln("return entities.stream()");
+            indent();
+            writeln(".map(entity -> toResponse(entity, expand))");
+            writeln(".collect(Collectors.toList());");
+            outdent();
+            outdent();
+            writeln("}");
+            writeln();
         }
 
         private void writeGetterOverrides() {
@@ -1539,6 +1641,9 @@ public class CrudXDTOProcessor extends AbstractProcessor {
         private void copyFields(TypeElement dtoElement, TypeElement entityElement,
                                 String srcVar, String tgtVar, boolean dtoToEntity) {
             List<FieldMapping> mappings = new ArrayList<>();
+            List<LazyFieldMapping> lazyMappings = new ArrayList<>();
+            CrudXResponse responseAnnotation = dtoToEntity ? null : dtoElement.getAnnotation(CrudXResponse.class);
+            boolean classLazy = responseAnnotation != null && responseAnnotation.lazyNested();
 
             // Collect all field mappings first
             for (Element element : dtoElement.getEnclosedElements()) {
@@ -1580,6 +1685,12 @@ public class CrudXDTOProcessor extends AbstractProcessor {
                 boolean needsNullCheck = !isPrimitiveType(sourceType);
                 String conversion = generateFieldMapping(getter, sourceType, targetType, fieldAnnotation, dtoToEntity);
 
+                if (!dtoToEntity && isLazyField(dtoField, dtoFieldType, classLazy)) {
+                    lazyMappings.add(new LazyFieldMapping(getter, setter, conversion, dtoFieldName,
+                            generateReference(getter, entityFieldType, dtoFieldType)));
+                    continue;
+                }
+
                 String defaultValue = null;
                 if (dtoToEntity && fieldAnnotation != null && !fieldAnnotation.defaultValue().isEmpty()) {
                     defaultValue = generateDefaultValueLiteral(fieldAnnotation.defaultValue(), entityFieldType);
@@ -1658,6 +1769,110 @@ public class CrudXDTOProcessor extends AbstractProcessor {
                     writeln("}");
                 }
             }
+
+            // Write lazy nested fields (association untouched unless expanded)
+            if (!lazyMappings.isEmpty()) {
+                if (!mappings.isEmpty()) {
+                    writeln();
+                }
+                writeln("// Lazy nested mappings");
+                for (LazyFieldMapping mapping : lazyMappings) {
+                    writeLazyFieldMapping(mapping);
+                }
+            }
+        }
+
+        private void writeLazyFieldMapping(LazyFieldMapping mapping) {
+            if (expandVar != null) {
+                writeln("if (" + expandVar + ".contains(\"" + mapping.fieldName + "\")) {");
+                indent();
+                writeln("if (" + mapping.getter + " != null) {");
+                indent();
+                writeln(mapping.setter + "(" + mapping.conversion + ");");
+                outdent();
+                writeln("}");
+                outdent();
+                if (mapping.referenceType == null) {
+                    writeln("}");
+                    return;
+                }
+                writeln("} else if (" + mapping.getter + " != null) {");
+            } else {
+                if (mapping.referenceType == null) {
+                    return;
+                }
+                writeln("if (" + mapping.getter + " != null) {");
+            }
+
+            // Id-only reference: JPA proxies answer getId() without loading the association
+            indent();
+            writeln(mapping.referenceType + " ref = new " + mapping.referenceType + "();");
+            writeln("ref.setId(" + mapping.getter + ".getId());");
+            writeln(mapping.setter + "(ref);");
+            outdent();
+            writeln("}");
+        }
+
+        private boolean isLazyField(VariableElement dtoField, TypeMirror dtoFieldType, boolean classLazy) {
+            CrudXNested nested = dtoField.getAnnotation(CrudXNested.class);
+            if (nested != null && nested.fetch() == CrudXNested.FetchStrategy.LAZY) {
+                return true;
+            }
+            if (!classLazy) {
+                return false;
+            }
+            if (nested != null) {
+                return true;
+            }
+            if (processor.isCollection(dtoFieldType)) {
+                TypeMirror itemType = getCollectionItemType(dtoFieldType);
+                return itemType != null && isComplexType(itemType);
+            }
+            return isComplexType(dtoFieldType);
+        }
+
+        /**
+         * Returns the reference DTO type for an id-only reference, or null when the
+         * field is a collection or either side lacks a compatible {@code id} field
+         */
+        private String generateReference(String getter, TypeMirror entityFieldType, TypeMirror dtoFieldType) {
+            if (processor.isCollection(dtoFieldType) || !(dtoFieldType instanceof DeclaredType dtoDeclared)
+                    || !(entityFieldType instanceof DeclaredType entityDeclared)) {
+                return null;
+            }
+
+            TypeElement dtoTypeElement = (TypeElement) dtoDeclared.asElement();
+            TypeElement entityTypeElement = (TypeElement) entityDeclared.asElement();
+            VariableElement dtoId = findField(dtoTypeElement, "id");
+            VariableElement entityId = findField(entityTypeElement, "id");
+            if (dtoId == null || entityId == null) {
+                return null;
+            }
+
+            TypeMirror entityIdType = typeUtils.asMemberOf(entityDeclared, entityId);
+            TypeMirror dtoIdType = typeUtils.asMemberOf(dtoDeclared, dtoId);
+            if (!typeUtils.isSameType(typeUtils.erasure(entityIdType), typeUtils.erasure(dtoIdType))) {
+                return null;
+            }
+
+            return dtoTypeElement.getQualifiedName().toString();
+        }
+
+        private static class LazyFieldMapping {
+            final String getter;
+            final String setter;
+            final String conversion;
+            final String fieldName;
+            final String referenceType;
+
+            LazyFieldMapping(String getter, String setter, String conversion,
+                             String fieldName, String referenceType) {
+                this.getter = getter;
+                this.setter = setter;
+                this.conversion = conversion;
+                this.fieldName = fieldName;
+                this.referenceType = referenceType;
+            }
         }
 
         // Inner class to hold field mapping information
@@ -0,0 +1,11 @@
+package io.github.sachinnimbal.crudx.core.enums;
+
+public enum CrudXPhase {
+    OTHER,          // Framework, lifecycle hooks and anything not attributed below
+    PARSE,          // JSON request body -> Map/List
+    CONVERT,        // Request body -> entity / request DTO
+    VALIDATE,       // Required fields, Jakarta and update validation
+    DB,             // Service calls incl. queries and transaction commit
+    MAP,            // Entity -> response DTO
+    SERIALIZE       // Response body -> JSON
+}
@@ -0,0 +1,60 @@
+package io.github.sachinnimbal.crudx.core.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many failures are logged in full per time window.
+ *
+ * <p>An error storm (database down, a broken client retrying) would otherwise spend more time
+ * rendering stack traces than serving requests. Failures over the cap are only counted; the
+ * count is handed to the next failure that may log, so nothing disappears silently.</p>
+ */
+public class CrudXErrorLogLimiter {
+
+    /**
+     * Returned by {@link #acquire()} when the failure must not be logged
+     */
+    public static final long SUPPRESSED = -1L;
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param permitsPerWindow failures logged per window; 0 or less logs every failure
+     */
+    public CrudXErrorLogLimiter(int permitsPerWindow, Duration window) {
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * @return {@link #SUPPRESSED} when this failure should not be logged, otherwise the number of
+     * failures suppressed since the last logged one
+     */
+    public long acquire() {
+        if (permitsPerWindow <= 0) {
+            return 0L;
+        }
+
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        if (permitsUsed.incrementAndGet() > permitsPerWindow) {
+            suppressed.increment();
+            return SUPPRESSED;
+        }
+        return suppressed.sumThenReset();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+}
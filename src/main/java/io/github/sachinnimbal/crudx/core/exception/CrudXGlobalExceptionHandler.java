@@ -35,7 +35,8 @@ public class CrudXGlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleEntityNotFound(
             EntityNotFoundException ex, WebRequest request) {
 
-        log.error("Entity not found: {}", ex.getMessage());
+        // Routine under crawler/retry traffic; not an error of this service
+        log.debug("Entity not found: {}", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ApiResponse.error(
@@ -50,7 +51,7 @@ public class CrudXGlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDuplicateEntity(
             DuplicateEntityException ex, WebRequest request) {
 
-        log.error("Duplicate entity: {}", ex.getMessage());
+        log.debug("Duplicate entity: {}", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error(
@@ -89,7 +90,8 @@ public class CrudXGlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(
             IllegalArgumentException ex, WebRequest request) {
 
-        log.error("Illegal argument: {}", ex.getMessage());
+        // Client input errors; IllegalArgumentExceptions from bugs are wrapped by the controller (500)
+        log.debug("Illegal argument: {}", ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(
@@ -104,7 +106,8 @@ public class CrudXGlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(
             DataIntegrityViolationException ex, WebRequest request) {
 
-        log.error("Data integrity violation: {}", ex.getMessage());
+        // Routine conflict under concurrent writes, answered with 409
+        log.debug("Data integrity violation: {}", ex.getMessage());
 
         String message = "Database constraint violation";
         String details = ex.getMostSpecificCause().getMessage();
@@ -261,6 +264,14 @@ public class CrudXGlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
 
+        // Domain exceptions wrapped by custom controller or service code still map to 404/409
+        if (ex.getCause() instanceof EntityNotFoundException notFound) {
+            return handleEntityNotFound(notFound, request);
+        }
+        if (ex.getCause() instanceof DuplicateEntityException duplicate) {
+            return handleDuplicateEntity(duplicate, request);
+        }
+
         log.error("Runtime exception: {}", ex.getMessage()); // Remove stack trace logging
 
         String message = ex.getMessage() != null ? ex.getMessage() : "An unexpected error occurred";
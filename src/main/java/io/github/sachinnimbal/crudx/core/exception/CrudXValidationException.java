@@ -0,0 +1,22 @@
+package io.github.sachinnimbal.crudx.core.exception;
+
+/**
+ * Invalid client input rejected by CrudX validation or conversion (HTTP 400).
+ *
+ * <p>Distinguishes expected input errors from {@link IllegalArgumentException}s raised by bugs,
+ * which are still reported as server errors. Created without a stack trace.</p>
+ */
+public class CrudXValidationException extends IllegalArgumentException {
+    public CrudXValidationException(String message) {
+        this(message, null);
+    }
+
+    public CrudXValidationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this; // IllegalArgumentException has no writableStackTrace constructor
+    }
+}
@@ -1,11 +1,17 @@
 package io.github.sachinnimbal.crudx.core.exception;
 
+/**
+ * Entity violates a unique constraint (HTTP 409).
+ *
+ * <p>Also used per row to skip duplicates in batch operations, so it is created without a
+ * stack trace; the cause, when there is one, keeps its own.</p>
+ */
 public class DuplicateEntityException extends RuntimeException {
     public DuplicateEntityException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public DuplicateEntityException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
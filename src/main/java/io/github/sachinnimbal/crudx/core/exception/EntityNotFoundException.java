@@ -1,11 +1,16 @@
 package io.github.sachinnimbal.crudx.core.exception;
 
+/**
+ * Requested entity does not exist (HTTP 404).
+ *
+ * <p>Routine under crawler/retry traffic, so it is created without a stack trace.</p>
+ */
 public class EntityNotFoundException extends RuntimeException {
     public EntityNotFoundException(String entityName, Object id) {
-        super(String.format("%s not found with id: %s", entityName, id));
+        this(entityName + " not found with id: " + id);
     }
 
     public EntityNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,176 @@
+package io.github.sachinnimbal.crudx.core.index;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * Compile-time index of CrudX entities, written by {@link CrudXIndexProcessor} to
+ * {@code META-INF/crudx/index} (one per module; all copies on the classpath are merged).
+ *
+ * <p>Lets startup code go straight from a controller or entity name to its id type,
+ * database type, DTOs and generated mapper without scanning packages, loading every bean
+ * class or probing with {@code Class.forName}. Callers fall back to scanning when
+ * {@link #load(ClassLoader)} returns empty.</p>
+ *
+ * <p>Deliberately free of Spring and logging dependencies: the annotation processor uses
+ * the same class to write the file.</p>
+ */
+public final class CrudXIndex {
+
+    public static final String INDEX_LOCATION = "META-INF/crudx/index";
+
+    private static final Map<ClassLoader, Optional<CrudXIndex>> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Entry> entries;
+    private final Map<String, Entry> entriesByController = new HashMap<>();
+    private final int sources;
+
+    private CrudXIndex(Map<String, Entry> entries, int sources) {
+        this.entries = Collections.unmodifiableMap(entries);
+        this.sources = sources;
+        for (Entry entry : entries.values()) {
+            for (String controller : entry.getControllers()) {
+                entriesByController.put(controller, entry);
+            }
+        }
+    }
+
+    /**
+     * Loads and merges every index on the classpath; empty when no module was indexed
+     */
+    public static Optional<CrudXIndex> load(ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : CrudXIndex.class.getClassLoader();
+        return CACHE.computeIfAbsent(loader, CrudXIndex::read);
+    }
+
+    private static Optional<CrudXIndex> read(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            int sources = 0;
+
+            while (urls.hasMoreElements()) {
+                Properties props = new Properties();
+                try (InputStream is = urls.nextElement().openStream()) {
+                    props.load(is);
+                }
+                parse(props, entries);
+                sources++;
+            }
+
+            return sources > 0 ? Optional.of(new CrudXIndex(entries, sources)) : Optional.empty();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + INDEX_LOCATION, e);
+        }
+    }
+
+    private static void parse(Properties props, Map<String, Entry> entries) {
+        for (String key : props.stringPropertyNames()) {
+            if (!key.endsWith(".db") && !key.endsWith(".id")) {
+                continue;
+            }
+            String entityName = key.substring(0, key.lastIndexOf('.'));
+            Entry entry = entries.computeIfAbsent(entityName, Entry::new);
+
+            if (entry.getIdClassName() == null) {
+                entry.setIdClassName(emptyToNull(props.getProperty(entityName + ".id")));
+            }
+            if (entry.getDatabaseType() == null) {
+                entry.setDatabaseType(emptyToNull(props.getProperty(entityName + ".db")));
+            }
+            if (entry.getMapperClassName() == null) {
+                entry.setMapperClassName(emptyToNull(props.getProperty(entityName + ".mapper")));
+            }
+            addAll(entry.getControllers(), props.getProperty(entityName + ".controllers"));
+            addAll(entry.getRequestDTOs(), props.getProperty(entityName + ".request"));
+            addAll(entry.getResponseDTOs(), props.getProperty(entityName + ".response"));
+        }
+    }
+
+    static void write(Collection<Entry> entries, Writer writer) throws IOException {
+        writer.write("# CrudX compile-time index - generated, do not edit\n");
+        writer.write("# Entities: " + entries.size() + "\n\n");
+
+        for (Entry entry : entries) {
+            String key = entry.getEntityClassName();
+            writer.write(key + ".id=" + nullToEmpty(entry.getIdClassName()) + "\n");
+            writer.write(key + ".db=" + nullToEmpty(entry.getDatabaseType()) + "\n");
+            writer.write(key + ".controllers=" + String.join(",", entry.getControllers()) + "\n");
+            writer.write(key + ".request=" + String.join(",", entry.getRequestDTOs()) + "\n");
+            writer.write(key + ".response=" + String.join(",", entry.getResponseDTOs()) + "\n");
+            writer.write(key + ".mapper=" + nullToEmpty(entry.getMapperClassName()) + "\n\n");
+        }
+    }
+
+    public Optional<Entry> getEntry(String entityClassName) {
+        return Optional.ofNullable(entries.get(entityClassName));
+    }
+
+    public Optional<Entry> findByController(String controllerClassName) {
+        return Optional.ofNullable(entriesByController.get(controllerClassName));
+    }
+
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of index files merged (one per indexed module)
+     */
+    public int getSourceCount() {
+        return sources;
+    }
+
+    private static void addAll(Collection<String> target, String csv) {
+        if (csv == null || csv.isBlank()) {
+            return;
+        }
+        for (String value : csv.split(",")) {
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty() && !target.contains(trimmed)) {
+                target.add(trimmed);
+            }
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    @Getter
+    @Setter
+    public static class Entry {
+        private final String entityClassName;
+        private String idClassName;
+        private String databaseType;
+        private String mapperClassName;
+        private final List<String> controllers = new ArrayList<>();
+        private final List<String> requestDTOs = new ArrayList<>();
+        private final List<String> responseDTOs = new ArrayList<>();
+
+        public Entry(String entityClassName) {
+            this.entityClassName = entityClassName;
+        }
+
+        public boolean hasDTOs() {
+            return !requestDTOs.isEmpty() || !responseDTOs.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.sachinnimbal.crudx.core.index;
+
+import com.google.auto.service.AutoService;
+import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXRequest;
+import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXResponse;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Writes {@code META-INF/crudx/index}: for every entity served by a {@code CrudXController}
+ * subclass or targeted by a DTO, its id type, database type, controllers, DTOs and generated
+ * mapper. {@link CrudXIndex} reads it at startup so service registration and the DTO registry
+ * can skip classpath scanning and reflective generic resolution.
+ *
+ * <p>Aggregating for Gradle: the index combines every controller and DTO in the module.</p>
+ */
+@AutoService(Processor.class)
+@SupportedAnnotationTypes({
+        "io.github.sachinnimbal.crudx.core.dto.annotations.CrudXRequest",
+        "io.github.sachinnimbal.crudx.core.dto.annotations.CrudXResponse",
+        "org.springframework.web.bind.annotation.RestController",
+        "org.springframework.stereotype.Controller"
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions("crudx.dto.enabled")
+public class CrudXIndexProcessor extends AbstractProcessor {
+
+    private static final String CONTROLLER_CLASS = "io.github.sachinnimbal.crudx.web.CrudXController";
+    private static final Map<String, String> DATABASE_TYPES = Map.of(
+            "io.github.sachinnimbal.crudx.core.model.CrudXMySQLEntity", "MYSQL",
+            "io.github.sachinnimbal.crudx.core.model.CrudXPostgreSQLEntity", "POSTGRESQL",
+            "io.github.sachinnimbal.crudx.core.model.CrudXMongoEntity", "MONGODB"
+    );
+
+    private final Map<String, CrudXIndex.Entry> entries = new TreeMap<>();
+    private final Set<Element> originatingElements = new LinkedHashSet<>();
+    private boolean dtoEnabled = true;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        String dtoEnabledOption = processingEnv.getOptions().get("crudx.dto.enabled");
+        if (dtoEnabledOption != null) {
+            dtoEnabled = Boolean.parseBoolean(dtoEnabledOption);
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!entries.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    indexElement((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void indexElement(TypeElement element) {
+        CrudXRequest request = element.getAnnotation(CrudXRequest.class);
+        if (request != null) {
+            TypeMirror entityType = extractEntityType(request);
+            entry(entityType).getRequestDTOs().add(binaryName(element));
+            originatingElements.add(element);
+        }
+
+        CrudXResponse response = element.getAnnotation(CrudXResponse.class);
+        if (response != null) {
+            TypeMirror entityType = extractEntityType(response);
+            entry(entityType).getResponseDTOs().add(binaryName(element));
+            originatingElements.add(element);
+        }
+
+        if (!element.getModifiers().contains(Modifier.ABSTRACT)) {
+            DeclaredType controllerType = findSupertype(element.asType(), CONTROLLER_CLASS);
+            if (controllerType != null && controllerType.getTypeArguments().size() >= 2) {
+                TypeMirror entityType = controllerType.getTypeArguments().get(0);
+                TypeMirror idType = controllerType.getTypeArguments().get(1);
+                if (entityType.getKind() == TypeKind.DECLARED && idType.getKind() == TypeKind.DECLARED) {
+                    CrudXIndex.Entry entry = entry(entityType);
+                    entry.getControllers().add(binaryName(element));
+                    if (entry.getIdClassName() == null) {
+                        entry.setIdClassName(erasedName(idType));
+                    }
+                    originatingElements.add(element);
+                }
+            }
+        }
+    }
+
+    private CrudXIndex.Entry entry(TypeMirror entityType) {
+        String entityName = erasedName(entityType);
+        return entries.computeIfAbsent(entityName, name -> {
+            CrudXIndex.Entry entry = new CrudXIndex.Entry(name);
+            resolveEntityTypes(entityType, entry);
+
+            // Same naming as CrudXDTOProcessor: <entity package>.generated.<Entity>MapperCrudX
+            TypeElement entityElement = (TypeElement) ((DeclaredType) entityType).asElement();
+            String packageName = processingEnv.getElementUtils().getPackageOf(entityElement)
+                    .getQualifiedName().toString();
+            entry.setMapperClassName(packageName + ".generated." + entityElement.getSimpleName() + "MapperCrudX");
+            return entry;
+        });
+    }
+
+    /**
+     * Database type and id type come from the CrudX base entity the entity extends,
+     * e.g. {@code CrudXMySQLEntity<Long>}
+     */
+    private void resolveEntityTypes(TypeMirror entityType, CrudXIndex.Entry entry) {
+        for (Map.Entry<String, String> base : DATABASE_TYPES.entrySet()) {
+            DeclaredType baseType = findSupertype(entityType, base.getKey());
+            if (baseType != null) {
+                entry.setDatabaseType(base.getValue());
+                if (!baseType.getTypeArguments().isEmpty()
+                        && baseType.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+                    entry.setIdClassName(erasedName(baseType.getTypeArguments().get(0)));
+                }
+                return;
+            }
+        }
+    }
+
+    private DeclaredType findSupertype(TypeMirror type, String qualifiedName) {
+        TypeMirror current = type;
+        while (current != null && current.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) current).asElement();
+            if (element.getQualifiedName().contentEquals(qualifiedName)) {
+                return (DeclaredType) current;
+            }
+            List<? extends TypeMirror> supertypes = processingEnv.getTypeUtils().directSupertypes(current);
+            current = supertypes.isEmpty() ? null : supertypes.get(0); // Superclass comes first
+        }
+        return null;
+    }
+
+    private String binaryName(TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private String erasedName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased instanceof DeclaredType declaredType) {
+            return binaryName((TypeElement) declaredType.asElement());
+        }
+        return erased.toString();
+    }
+
+    private TypeMirror extractEntityType(CrudXRequest annotation) {
+        try {
+            annotation.value(); // This will throw MirroredTypeException
+        } catch (MirroredTypeException mte) {
+            return mte.getTypeMirror();
+        }
+        return null;
+    }
+
+    private TypeMirror extractEntityType(CrudXResponse annotation) {
+        try {
+            annotation.value(); // This will throw MirroredTypeException
+        } catch (MirroredTypeException mte) {
+            return mte.getTypeMirror();
+        }
+        return null;
+    }
+
+    private void writeIndex() {
+        for (CrudXIndex.Entry entry : entries.values()) {
+            boolean hasDTOs = !entry.getRequestDTOs().isEmpty() || !entry.getResponseDTOs().isEmpty();
+            if (!dtoEnabled || !hasDTOs) {
+                entry.setMapperClassName(null); // No mapper is generated for this entity
+            }
+        }
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", CrudXIndex.INDEX_LOCATION,
+                    originatingElements.toArray(new Element[0]));
+
+            try (Writer writer = resource.openWriter()) {
+                CrudXIndex.write(entries.values(), writer);
+            }
+
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "✓ CrudX: Indexed " + entries.size() + " entities");
+
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate CrudX index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.sachinnimbal.crudx.core.interceptor;
+
+import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.web.CrudXController;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entity, operation and mapper mode of a {@link CrudXController} handler, resolved once per
+ * class/method and shared by the CrudX interceptors
+ */
+@Slf4j
+public final class CrudXHandlerMetadata {
+
+    // CrudXController handler method -> operation (count/exists/force delete have no CrudXOperation)
+    private static final Map<String, String> HANDLER_OPERATIONS = Map.ofEntries(
+            Map.entry("create", CrudXOperation.CREATE.name()),
+            Map.entry("createBatch", CrudXOperation.BATCH_CREATE.name()),
+            Map.entry("getById", CrudXOperation.GET_ID.name()),
+            Map.entry("getAll", CrudXOperation.GET_ALL.name()),
+            Map.entry("getPaged", CrudXOperation.GET_PAGED.name()),
+            Map.entry("update", CrudXOperation.UPDATE.name()),
+            Map.entry("updateBatch", CrudXOperation.BATCH_UPDATE.name()),
+            Map.entry("delete", CrudXOperation.DELETE.name()),
+            Map.entry("deleteBatch", CrudXOperation.BATCH_DELETE.name()),
+            Map.entry("deleteBatchForce", CrudXOperation.BATCH_DELETE.name()),
+            Map.entry("count", "COUNT"),
+            Map.entry("exists", "EXISTS")
+    );
+
+    private static final Map<Method, String> OPERATION_CACHE = new ConcurrentHashMap<>(64);
+    private static final Map<Class<?>, String> ENTITY_NAME_CACHE = new ConcurrentHashMap<>(64);
+    private static final Map<Class<?>, String> DTO_TYPE_CACHE = new ConcurrentHashMap<>(64);
+
+    private CrudXHandlerMetadata() {
+    }
+
+    /**
+     * @return the handler method when it belongs to a {@link CrudXController}, otherwise {@code null}
+     */
+    public static HandlerMethod crudxHandler(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && CrudXController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return handlerMethod;
+        }
+        return null;
+    }
+
+    public static String operation(Method handlerMethod) {
+        String operation = OPERATION_CACHE.get(handlerMethod);
+        if (operation == null) {
+            operation = OPERATION_CACHE.computeIfAbsent(handlerMethod, m ->
+                    HANDLER_OPERATIONS.getOrDefault(m.getName(), m.getName()));
+        }
+        return operation;
+    }
+
+    public static String entityName(Class<?> controllerClass) {
+        String entityName = ENTITY_NAME_CACHE.get(controllerClass);
+        if (entityName == null) {
+            entityName = ENTITY_NAME_CACHE.computeIfAbsent(controllerClass, CrudXHandlerMetadata::resolveEntityName);
+        }
+        return entityName;
+    }
+
+    /**
+     * Mapper mode of the handler's controller ({@code COMPILED}, {@code RUNTIME} or {@code NONE}).
+     * The mode is fixed once the controller has initialized, so it is looked up reflectively
+     * only on the first request per controller class.
+     */
+    public static String dtoType(HandlerMethod handlerMethod) {
+        Class<?> controllerClass = handlerMethod.getBeanType();
+        String dtoType = DTO_TYPE_CACHE.get(controllerClass);
+        if (dtoType == null) {
+            Object controller = handlerMethod.getBean();
+            if (!controllerClass.isInstance(controller)) {
+                return "NONE"; // Bean not resolved yet (bean name only) - do not cache
+            }
+            dtoType = DTO_TYPE_CACHE.computeIfAbsent(controllerClass, c -> resolveDtoType(controller, c));
+        }
+        return dtoType;
+    }
+
+    private static String resolveDtoType(Object controller, Class<?> controllerClass) {
+        try {
+            Method getMapperMode = ReflectionUtils.findMethod(controllerClass, "getMapperMode");
+            if (getMapperMode != null) {
+                ReflectionUtils.makeAccessible(getMapperMode);
+                Object mode = getMapperMode.invoke(controller);
+                if (mode != null) {
+                    return mode.toString();
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Could not detect DTO type: {}", e.getMessage());
+        }
+        return "NONE";
+    }
+
+    private static String resolveEntityName(Class<?> clazz) {
+        try {
+            Type genericSuperclass = clazz.getGenericSuperclass();
+            if (genericSuperclass instanceof ParameterizedType paramType) {
+                Type[] typeArgs = paramType.getActualTypeArguments();
+                if (typeArgs.length > 0 && typeArgs[0] instanceof Class<?> entityClass) {
+                    return entityClass.getSimpleName();
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Entity extraction failed: {}", e.getMessage());
+        }
+        return "Unknown";
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.sachinnimbal.crudx.core.interceptor;
+
+import io.github.sachinnimbal.crudx.core.jfr.CrudXRequestEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits a {@link CrudXRequestEvent} per CrudX controller request. Costs one
+ * {@code isEnabled()} check while no JFR recording has the event enabled.
+ */
+public class CrudXJfrInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTR = "crudx.jfrEvent";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (CrudXHandlerMetadata.crudxHandler(handler) == null) {
+            return true;
+        }
+
+        CrudXRequestEvent event = new CrudXRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTR, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTR) instanceof CrudXRequestEvent event)) {
+            return;
+        }
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        int status = response.getStatus();
+        boolean success = status < 400 && ex == null;
+
+        event.complete(
+                CrudXHandlerMetadata.entityName(handlerMethod.getBeanType()),
+                CrudXHandlerMetadata.operation(handlerMethod.getMethod()),
+                request.getMethod(),
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                status,
+                success,
+                success ? null : (ex != null ? ex.getClass().getSimpleName() : "HTTP_" + status));
+    }
+}
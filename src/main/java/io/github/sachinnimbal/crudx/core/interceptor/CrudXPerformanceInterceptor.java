@@ -1,7 +1,11 @@
 package io.github.sachinnimbal.crudx.core.interceptor;
 
+import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXAllocationTracker;
 import io.github.sachinnimbal.crudx.core.metrics.CrudXPerformanceTracker;
-import io.github.sachinnimbal.crudx.web.CrudXController;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXStatementCapture;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -9,11 +13,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
 
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
-import java.lang.management.MemoryUsage;
-import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -22,20 +26,28 @@ public class CrudXPerformanceInterceptor implements HandlerInterceptor {
 
     private static final String START_TIME_ATTR = "crudx.startTime";
     private static final String START_MEMORY_ATTR = "crudx.startMemory";
-    private static final String ENTITY_NAME_ATTR = "crudx.entityName";
+    private static final String SAMPLED_ATTR = "crudx.sampled";
     private static final String DTO_TYPE_ATTR = "dtoType";
-
-    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private static final String UNMATCHED_ENDPOINT = "[unmatched]";
 
     private final CrudXPerformanceTracker tracker;
+    private final int sampleRate;
+    private final long slowThresholdNanos;
+    private final boolean captureStatements;
 
-    public CrudXPerformanceInterceptor(CrudXPerformanceTracker tracker) {
+    public CrudXPerformanceInterceptor(CrudXPerformanceTracker tracker, CrudXProperties properties) {
         this.tracker = tracker;
-
-        log.info("✓ Real-time memory tracking: ENABLED (MemoryMXBean native)");
-        log.info("  - Mode: Heap usage delta measurement");
-        log.info("  - Accuracy: KB-level precision");
-        log.info("  - Overhead: <200ns per measurement");
+        this.sampleRate = Math.max(1, properties.getPerformance().getSampleRate());
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getPerformance().getSlowRequestThresholdMs());
+        this.captureStatements = properties.getPerformance().isStatementTracking();
+
+        if (CrudXAllocationTracker.isSupported()) {
+            log.info("✓ Allocation tracking: ENABLED (ThreadMXBean per-thread allocated bytes)");
+            log.info("  - Counts only the request thread (+ CrudX parallel mapping workers)");
+            log.info("  - Unaffected by other threads and GC cycles");
+        } else {
+            log.info("ℹ️  Allocation tracking: UNAVAILABLE (JVM lacks thread allocation counters)");
+        }
         log.info("  - JDK: {} {}",
                 System.getProperty("java.vm.name"),
                 System.getProperty("java.version"));
@@ -43,43 +55,74 @@ public class CrudXPerformanceInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (!(handler instanceof HandlerMethod handlerMethod)) {
+        HandlerMethod handlerMethod = CrudXHandlerMetadata.crudxHandler(handler);
+        if (handlerMethod == null) {
             return true;
         }
 
-        if (!CrudXController.class.isAssignableFrom(handlerMethod.getBeanType())) {
-            return true;
-        }
-
-        // Start time (nanosecond precision)
+        // Start time (nanosecond precision) - always, so errors and slow requests are caught when sampling
         request.setAttribute(START_TIME_ATTR, System.nanoTime());
 
-        // CRITICAL: Capture heap memory BEFORE request
-        MemoryUsage heapUsage = MEMORY_MX_BEAN.getHeapMemoryUsage();
-        long startMemoryBytes = heapUsage.getUsed();
-        request.setAttribute(START_MEMORY_ATTR, startMemoryBytes);
+        // SQL/Mongo statements: counted per request, broken down if the request turns out to be slow
+        if (captureStatements) {
+            CrudXStatementCapture.begin();
+        }
 
-        // Cache entity name
-        String entityName = extractEntityName(handlerMethod.getBeanType());
-        if (entityName != null) {
-            request.setAttribute(ENTITY_NAME_ATTR, entityName);
+        // Sampling: skipped requests cost one random draw and nothing else
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return true;
         }
+        request.setAttribute(SAMPLED_ATTR, Boolean.TRUE);
+
+        // Bytes allocated by this thread so far (-1 if unsupported) + sink for worker threads
+        request.setAttribute(START_MEMORY_ATTR, CrudXAllocationTracker.currentThreadAllocatedBytes());
+        CrudXAllocationTracker.beginRequest();
+
+        // Phase clock: body parsing, conversion, validation, DB, mapping and serialization
+        CrudXRequestTiming.begin();
 
-        // NEW: Detect and set DTO type from the controller
-        String dtoType = detectDtoType(handlerMethod);
-        request.setAttribute(DTO_TYPE_ATTR, dtoType);
+        // Mapper mode of the controller (resolved once per controller, overridden by the converter)
+        request.setAttribute(DTO_TYPE_ATTR, CrudXHandlerMetadata.dtoType(handlerMethod));
 
         return true;
     }
 
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler, ModelAndView modelAndView) {
+        // Response body has been written: close the SERIALIZE span opened by CrudXPhaseTimingAdvice
+        CrudXRequestTiming.enter(CrudXPhase.OTHER);
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
                                 Object handler, Exception ex) {
 
+        CrudXRequestTiming timing = CrudXRequestTiming.finish();
+        CrudXStatementCapture statements = CrudXStatementCapture.finish();
+        long workerBytes = CrudXAllocationTracker.endRequest();
         Long startTimeNano = (Long) request.getAttribute(START_TIME_ATTR);
-        Long startMemoryBytes = (Long) request.getAttribute(START_MEMORY_ATTR);
+        HandlerMethod handlerMethod = CrudXHandlerMetadata.crudxHandler(handler);
+
+        if (startTimeNano == null || handlerMethod == null) {
+            return;
+        }
+
+        // Calculate execution time (nanoseconds for the latency histograms, milliseconds for logs)
+        long executionTimeNanos = System.nanoTime() - startTimeNano;
+        long executionTimeMs = executionTimeNanos / 1_000_000L;
+        boolean success = response.getStatus() < 400 && ex == null;
 
-        if (startTimeNano == null || startMemoryBytes == null) {
+        // Sampled requests stand for sampleRate requests; errors and slow requests are
+        // recorded unconditionally and stand for themselves, which keeps the estimates unbiased
+        boolean sampled = request.getAttribute(SAMPLED_ATTR) != null;
+        boolean slow = executionTimeNanos >= slowThresholdNanos;
+        long weight;
+        if (!success || slow) {
+            weight = 1L;
+        } else if (sampled) {
+            weight = sampleRate;
+        } else {
             return;
         }
 
@@ -98,23 +141,20 @@ public class CrudXPerformanceInterceptor implements HandlerInterceptor {
             dtoType = "NONE";
         }
 
-        // Calculate execution time (milliseconds)
-        long executionTimeMs = (System.nanoTime() - startTimeNano) / 1_000_000L;
-
-        // CRITICAL: Capture heap memory AFTER request
-        MemoryUsage heapUsage = MEMORY_MX_BEAN.getHeapMemoryUsage();
-        long endMemoryBytes = heapUsage.getUsed();
-
-        // Calculate REAL memory delta
-        long memoryDeltaBytes = endMemoryBytes - startMemoryBytes;
-        Long memoryDeltaKb = calculateRealMemoryDelta(memoryDeltaBytes, heapUsage, executionTimeMs);
+        // Bytes this request allocated: request thread delta + work forked to CrudX worker threads
+        Long startMemoryBytes = (Long) request.getAttribute(START_MEMORY_ATTR);
+        long memoryDeltaKb = startMemoryBytes != null ? allocatedKb(startMemoryBytes, workerBytes) : -1L;
 
-        // Extract request metadata
-        String endpoint = request.getRequestURI();
+        // Extract request metadata: key on the route template (/api/users/{id}), never the raw URI,
+        // so per-endpoint stats stay bounded no matter how many ids are requested
+        String endpoint = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (endpoint == null) {
+            endpoint = UNMATCHED_ENDPOINT;
+        }
         String method = request.getMethod();
-        String entityName = (String) request.getAttribute(ENTITY_NAME_ATTR);
+        String entityName = CrudXHandlerMetadata.entityName(handlerMethod.getBeanType());
+        String operation = CrudXHandlerMetadata.operation(handlerMethod.getMethod());
 
-        boolean success = response.getStatus() < 400 && ex == null;
         String errorType = !success ?
                 (ex != null ? ex.getClass().getSimpleName() : "HTTP_" + response.getStatus()) : null;
 
@@ -139,19 +179,28 @@ public class CrudXPerformanceInterceptor implements HandlerInterceptor {
         }
 
         // Track with REAL values
-        tracker.recordMetric(
+        tracker.recordMetricNanos(
                 endpoint,
                 method,
                 entityName,
-                executionTimeMs,
+                operation,
+                executionTimeNanos,
                 success,
                 errorType,
                 memoryDeltaKb,
-                dtoConversionTimeMs,
+                dtoConversionTimeMs != null ? dtoConversionTimeMs : -1L,
                 dtoUsed != null && dtoUsed,
-                dtoType
+                dtoType,
+                timing,
+                statements,
+                weight
         );
 
+        if (slow) {
+            tracker.recordSlowRequest(endpoint, method, entityName, operation,
+                    executionTimeNanos, success, errorType, statements);
+        }
+
         // ENHANCED: Log DTO conversion details
         if (log.isDebugEnabled() && dtoUsed != null && dtoUsed) {
             log.debug("✓ DTO Metrics: Type={}, Conversions={}, Time={}ms, Endpoint={} {}",
@@ -161,96 +210,24 @@ public class CrudXPerformanceInterceptor implements HandlerInterceptor {
                     method, endpoint);
         }
 
-        // Log high-memory requests (>10MB)
-        if (memoryDeltaKb != null && memoryDeltaKb > 10240) {
-            log.warn("⚠️  High memory request: {} {} | {}ms | {} KB | DTO: {}",
+        // Log high-allocation requests (>10MB)
+        if (memoryDeltaKb > 10240) {
+            log.warn("⚠️  High allocation request: {} {} | {}ms | {} KB | DTO: {}",
                     method, endpoint, executionTimeMs, memoryDeltaKb, dtoType);
         }
     }
 
-    private String detectDtoType(HandlerMethod handlerMethod) {
-        try {
-            Object controller = handlerMethod.getBean();
-
-            // Check if it's a CrudXController
-            if (!CrudXController.class.isAssignableFrom(controller.getClass())) {
-                return "NONE";
-            }
-
-            // Use reflection to get the mapperMode from CrudXController
-            Method getMapperModeMethod = controller.getClass().getMethod("getMapperMode");
-            String mapperMode = (String) getMapperModeMethod.invoke(controller);
-
-            return mapperMode != null ? mapperMode : "NONE";
-
-        } catch (Exception e) {
-            log.trace("Could not detect DTO type: {}", e.getMessage());
-            return "NONE";
+    /**
+     * @return allocated KB (rounded up), or -1 when it cannot be measured
+     */
+    private long allocatedKb(long startBytes, long workerBytes) {
+        if (startBytes < 0) {
+            return -1L;
         }
-    }
-
-    private Long calculateRealMemoryDelta(long deltaBytes, MemoryUsage currentHeapUsage,
-                                          long executionTimeMs) {
-
-        // POSITIVE DELTA: Direct measurement
-        if (deltaBytes > 0) {
-            long deltaKb = deltaBytes / 1024L;
-
-            // Sanity check: Cap at 200MB (realistic max for single request)
-            if (deltaKb > 204_800L) {
-                log.debug("⚠️  Capped memory {} KB → 200MB (possible memory leak)", deltaKb);
-                return 204_800L;
-            }
-
-            return deltaKb;
+        long bytes = CrudXAllocationTracker.currentThreadAllocatedBytes() - startBytes;
+        if (bytes < 0) {
+            return -1L; // Completed on a different thread than it started (async dispatch)
         }
-
-        // NEGATIVE DELTA: GC occurred during request
-        if (deltaBytes < 0) {
-            long committedBytes = currentHeapUsage.getCommitted();
-
-            // For batch operations, use execution time heuristic
-            if (executionTimeMs > 100 && committedBytes > 0) {
-                long estimatedKb = executionTimeMs;
-
-                if (estimatedKb > 51_200L) {
-                    estimatedKb = 51_200L;
-                }
-
-                log.trace("GC occurred during request. Estimated: {} KB", estimatedKb);
-                return estimatedKb;
-            }
-
-            // For quick requests, assume minimal allocation
-            if (executionTimeMs < 10) {
-                return 16L;
-            }
-
-            log.trace("GC occurred, cannot measure accurately. Duration: {}ms", executionTimeMs);
-            return null;
-        }
-
-        // ZERO DELTA: Likely cache hit or no allocation
-        return 8L;
-    }
-
-    private static final java.util.concurrent.ConcurrentHashMap<Class<?>, String> ENTITY_NAME_CACHE =
-            new java.util.concurrent.ConcurrentHashMap<>(64);
-
-    private String extractEntityName(Class<?> controllerClass) {
-        return ENTITY_NAME_CACHE.computeIfAbsent(controllerClass, clazz -> {
-            try {
-                java.lang.reflect.Type genericSuperclass = clazz.getGenericSuperclass();
-                if (genericSuperclass instanceof java.lang.reflect.ParameterizedType paramType) {
-                    java.lang.reflect.Type[] typeArgs = paramType.getActualTypeArguments();
-                    if (typeArgs.length > 0 && typeArgs[0] instanceof Class<?>) {
-                        return ((Class<?>) typeArgs[0]).getSimpleName();
-                    }
-                }
-            } catch (Exception e) {
-                log.trace("Entity extraction failed: {}", e.getMessage());
-            }
-            return "Unknown";
-        });
+        return (bytes + workerBytes + 1023) / 1024;
     }
-}
\ No newline at end of file
+}
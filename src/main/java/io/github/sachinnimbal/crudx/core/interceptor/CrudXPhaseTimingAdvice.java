@@ -0,0 +1,72 @@
+package io.github.sachinnimbal.crudx.core.interceptor;
+
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.web.CrudXController;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+
+/**
+ * Marks the PARSE and SERIALIZE phases of {@link CrudXRequestTiming}: request body reading
+ * happens during argument resolution and response writing after the handler returns, so
+ * neither is visible from the controller itself.
+ */
+@ControllerAdvice(assignableTypes = CrudXController.class)
+@ConditionalOnProperty(prefix = "crudx.performance", name = "enabled", havingValue = "true")
+public class CrudXPhaseTimingAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+
+    // ==================== REQUEST BODY ====================
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+                                           Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        CrudXRequestTiming.enter(CrudXPhase.PARSE);
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        CrudXRequestTiming.enter(CrudXPhase.OTHER);
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                  Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        CrudXRequestTiming.enter(CrudXPhase.OTHER);
+        return body;
+    }
+
+    // ==================== RESPONSE BODY ====================
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        // Closed by CrudXPerformanceInterceptor once the body has been written
+        CrudXRequestTiming.enter(CrudXPhase.SERIALIZE);
+        return body;
+    }
+}
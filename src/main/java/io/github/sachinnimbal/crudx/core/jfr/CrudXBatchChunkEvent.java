@@ -0,0 +1,64 @@
+package io.github.sachinnimbal.crudx.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * One chunk of a batch operation. {@code stage} tells the two levels apart:
+ * {@code PROCESS} is a controller-side chunk (conversion, validation and the service call),
+ * {@code INSERT} / {@code DELETE} is the database write inside the service.
+ */
+@Name("io.github.sachinnimbal.crudx.BatchChunk")
+@Label("CrudX Batch Chunk")
+@Category({"CrudX", "Batch"})
+@Description("Chunk of a CrudX batch create/update/delete")
+@StackTrace(false)
+public class CrudXBatchChunkEvent extends Event {
+
+    public static final String STAGE_PROCESS = "PROCESS";
+    public static final String STAGE_INSERT = "INSERT";
+    public static final String STAGE_DELETE = "DELETE";
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Chunk Number")
+    int chunk;
+
+    @Label("Rows")
+    @Description("Rows handed to this chunk")
+    int rows;
+
+    @Label("Succeeded")
+    int succeeded;
+
+    @Label("Skipped")
+    int skipped;
+
+    @Label("Duplicates")
+    int duplicates;
+
+    /**
+     * Ends the event and commits it if the recording wants it
+     */
+    public void complete(String entity, String operation, String stage, int chunk,
+                         int rows, int succeeded, int skipped, int duplicates) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.operation = operation;
+            this.stage = stage;
+            this.chunk = chunk;
+            this.rows = rows;
+            this.succeeded = succeeded;
+            this.skipped = skipped;
+            this.duplicates = duplicates;
+            commit();
+        }
+    }
+}
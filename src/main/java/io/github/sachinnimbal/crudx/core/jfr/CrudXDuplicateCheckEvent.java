@@ -0,0 +1,38 @@
+package io.github.sachinnimbal.crudx.core.jfr;
+
+import io.github.sachinnimbal.crudx.core.annotations.CrudXUniqueConstraint;
+import jdk.jfr.*;
+
+/**
+ * One unique-constraint lookup against the database ({@code @CrudXUniqueConstraint})
+ */
+@Name("io.github.sachinnimbal.crudx.DuplicateCheck")
+@Label("CrudX Duplicate Check")
+@Category({"CrudX", "Database"})
+@Description("CrudX unique constraint query")
+@StackTrace(false)
+public class CrudXDuplicateCheckEvent extends Event {
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Constraint")
+    @Description("Constraint name, or its fields when unnamed")
+    String constraint;
+
+    @Label("Duplicate Found")
+    boolean duplicate;
+
+    /**
+     * Ends the event and commits it if the recording wants it
+     */
+    public void complete(String entity, CrudXUniqueConstraint constraint, boolean duplicate) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.constraint = constraint.name().isEmpty() ? String.join(",", constraint.fields()) : constraint.name();
+            this.duplicate = duplicate;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.sachinnimbal.crudx.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Conversion of a request body to an entity, or of entities to response DTOs
+ */
+@Name("io.github.sachinnimbal.crudx.Mapping")
+@Label("CrudX Mapping")
+@Category({"CrudX", "Mapping"})
+@Description("CrudX request/response DTO mapping")
+@StackTrace(false)
+public class CrudXMappingEvent extends Event {
+
+    public static final String TO_ENTITY = "TO_ENTITY";
+    public static final String TO_RESPONSE = "TO_RESPONSE";
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Mapper")
+    @Description("NONE, COMPILED or RUNTIME")
+    String mapper;
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * Ends the event and commits it if the recording wants it
+     */
+    public void complete(String entity, String operation, String direction, String mapper, int rows) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.operation = operation;
+            this.direction = direction;
+            this.mapper = mapper;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
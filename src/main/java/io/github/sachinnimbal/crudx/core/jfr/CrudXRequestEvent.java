@@ -0,0 +1,56 @@
+package io.github.sachinnimbal.crudx.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * One CrudX controller request, from handler selection to completion (body parsing and
+ * serialization included). Recorded whenever a JFR recording is running, independently of
+ * {@code crudx.performance.enabled}.
+ */
+@Name("io.github.sachinnimbal.crudx.Request")
+@Label("CrudX Request")
+@Category({"CrudX", "Web"})
+@Description("CrudX controller request")
+@StackTrace(false)
+public class CrudXRequestEvent extends Event {
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Route template, e.g. /api/users/{id}")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Error Type")
+    String errorType;
+
+    /**
+     * Ends the event and commits it if the recording wants it
+     */
+    public void complete(String entity, String operation, String method, String endpoint,
+                         int status, boolean success, String errorType) {
+        end();
+        if (shouldCommit()) {
+            this.entity = entity;
+            this.operation = operation;
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.success = success;
+            this.errorType = errorType;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per-request allocation accounting via {@code com.sun.management.ThreadMXBean}.
+ *
+ * <p>Heap-used deltas mix in every other thread's allocations and drop whenever a GC runs
+ * mid-request. Thread allocation counters only grow and only count the calling thread, so
+ * the difference between request start and end is what the request itself allocated.</p>
+ *
+ * <p>Work forked to other threads (e.g. parallel response mapping) is added through a
+ * per-request sink: the request thread opens it with {@link #beginRequest()}, code that
+ * hands work to a pool captures {@link #currentSink()} and wraps the task in
+ * {@link #measure(LongAdder, Supplier)}.</p>
+ */
+@Slf4j
+public final class CrudXAllocationTracker {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+    private static final ThreadLocal<LongAdder> WORKER_BYTES = new ThreadLocal<>();
+
+    private CrudXAllocationTracker() {
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Bytes allocated by the current thread so far, or -1 when the JVM cannot measure it
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    /**
+     * Opens the worker-thread sink for the request running on this thread
+     */
+    public static void beginRequest() {
+        if (THREAD_MX_BEAN != null) {
+            WORKER_BYTES.set(new LongAdder());
+        }
+    }
+
+    /**
+     * Closes the sink and returns the bytes allocated on worker threads for this request
+     */
+    public static long endRequest() {
+        LongAdder sink = WORKER_BYTES.get();
+        if (sink == null) {
+            return 0L;
+        }
+        WORKER_BYTES.remove();
+        return sink.sum();
+    }
+
+    /**
+     * The open sink of the request on this thread, or {@code null} outside a tracked request
+     */
+    public static LongAdder currentSink() {
+        return WORKER_BYTES.get();
+    }
+
+    /**
+     * Runs {@code work} and adds what it allocated on the current thread to {@code sink}
+     */
+    public static <T> T measure(LongAdder sink, Supplier<T> work) {
+        if (sink == null || THREAD_MX_BEAN == null) {
+            return work.get();
+        }
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        try {
+            return work.get();
+        } finally {
+            sink.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - before);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.debug("Thread allocation accounting unavailable: {}", e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import org.hibernate.engine.spi.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds Hibernate SQL into {@link CrudXStatementCapture}.
+ *
+ * <p>Registered twice: as the session factory's {@link StatementInspector} (sees every SQL
+ * string as it is prepared, returned unchanged) and as an automatic
+ * {@link SessionEventListener} (brackets each JDBC execution, including batches).</p>
+ */
+public class CrudXHibernateStatementListener implements StatementInspector, SessionEventListener {
+
+    @Override
+    public String inspect(String sql) {
+        CrudXStatementCapture.statement(CrudXStatementCapture.SQL, sql);
+        return sql;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        CrudXStatementCapture.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        CrudXStatementCapture.executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        CrudXStatementCapture.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        CrudXStatementCapture.executionEnded();
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.sachinnimbal.crudx.core.util.TimeUtils.formatMicros;
+
+/**
+ * Lock-free latency histogram in the style of HdrHistogram.
+ *
+ * <p>Values are microseconds, bucketed log-linearly: exact below 64µs, then 32 linear
+ * sub-buckets per power of two, so a reported percentile (bucket midpoint) is within
+ * ~1.6% of the recorded value. Everything from 1µs to ~71 minutes fits in a fixed
+ * {@value #BUCKET_COUNT}-slot array; larger values are clamped into the top bucket.</p>
+ *
+ * <p>Each recording also lands in the current one-minute interval. {@link #rotate()} seals
+ * it into a ring of the last {@value #INTERVALS} intervals, so "last 1m" and "last 5m"
+ * percentiles are computed from completed intervals without keeping any samples.</p>
+ */
+public class CrudXLatencyHistogram {
+
+    public static final int INTERVALS = 5;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE_MICROS = (1L << 32) - 1;
+    static final int BUCKET_COUNT = 896; // indexOf(MAX_TRACKABLE_MICROS) + 1
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLongArray[] intervals = new AtomicLongArray[INTERVALS + 1];
+    private volatile int currentInterval;
+    private int sealedIntervals;
+
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public CrudXLatencyHistogram() {
+        for (int i = 0; i < intervals.length; i++) {
+            intervals[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    public void record(long micros) {
+        record(micros, 1L);
+    }
+
+    /**
+     * Records {@code weight} occurrences of {@code micros} (a sampled request standing in for N)
+     */
+    public void record(long micros, long weight) {
+        long value = Math.min(Math.max(micros, 0L), MAX_TRACKABLE_MICROS);
+        int index = indexOf(value);
+
+        counts.addAndGet(index, weight);
+        intervals[currentInterval].addAndGet(index, weight);
+        totalCount.add(weight);
+        totalMicros.add(value * weight);
+
+        long current;
+        while (value < (current = minMicros.get()) && !minMicros.compareAndSet(current, value)) {
+            // retry
+        }
+        while (value > (current = maxMicros.get()) && !maxMicros.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    /**
+     * Seals the current interval; called once a minute by the tracker
+     */
+    public synchronized void rotate() {
+        int next = (currentInterval + 1) % intervals.length;
+        clear(intervals[next]); // Oldest sealed interval, no longer read or written
+        currentInterval = next;
+        sealedIntervals = Math.min(sealedIntervals + 1, INTERVALS);
+    }
+
+    public synchronized void reset() {
+        clear(counts);
+        for (AtomicLongArray interval : intervals) {
+            clear(interval);
+        }
+        sealedIntervals = 0;
+        totalCount.reset();
+        totalMicros.reset();
+        minMicros.set(Long.MAX_VALUE);
+        maxMicros.set(0L);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMinMicros() {
+        long min = minMicros.get();
+        return min == Long.MAX_VALUE ? 0L : min;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Percentiles since startup (or the last reset)
+     */
+    public LatencySnapshot snapshot() {
+        long[] merged = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            merged[i] = counts.get(i);
+        }
+        long count = getCount();
+        return buildSnapshot(merged, count > 0 ? getTotalMicros() / count : null,
+                getMinMicros(), getMaxMicros());
+    }
+
+    /**
+     * Percentiles over the last {@code minutes} completed one-minute intervals (1..{@value #INTERVALS})
+     */
+    public synchronized LatencySnapshot intervalSnapshot(int minutes) {
+        int available = Math.min(Math.max(minutes, 1), sealedIntervals);
+        long[] merged = new long[BUCKET_COUNT];
+        for (int i = 1; i <= available; i++) {
+            AtomicLongArray interval = intervals[(currentInterval - i + intervals.length) % intervals.length];
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                merged[b] += interval.get(b);
+            }
+        }
+        return buildSnapshot(merged, null, null, null);
+    }
+
+    // ==================== HELPERS ====================
+
+    private LatencySnapshot buildSnapshot(long[] buckets, Long mean, Long min, Long max) {
+        long count = 0L;
+        long weightedSum = 0L;
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] > 0) {
+                count += buckets[i];
+                weightedSum += buckets[i] * medianValue(i);
+                if (first < 0) first = i;
+                last = i;
+            }
+        }
+
+        if (count == 0) {
+            return LatencySnapshot.empty();
+        }
+
+        long lowest = min != null ? min : lowestValue(first);
+        long highest = max != null ? max : highestValue(last);
+        long p50 = valueAtPercentile(buckets, count, 50.0, lowest, highest);
+        long p90 = valueAtPercentile(buckets, count, 90.0, lowest, highest);
+        long p99 = valueAtPercentile(buckets, count, 99.0, lowest, highest);
+        long p999 = valueAtPercentile(buckets, count, 99.9, lowest, highest);
+        long avg = mean != null ? mean : weightedSum / count;
+
+        return LatencySnapshot.builder()
+                .count(count)
+                .minMicros(lowest)
+                .maxMicros(highest)
+                .meanMicros(avg)
+                .p50Micros(p50)
+                .p90Micros(p90)
+                .p99Micros(p99)
+                .p999Micros(p999)
+                .mean(formatMicros(avg))
+                .p50(formatMicros(p50))
+                .p90(formatMicros(p90))
+                .p99(formatMicros(p99))
+                .p999(formatMicros(p999))
+                .max(formatMicros(highest))
+                .build();
+    }
+
+    private static long valueAtPercentile(long[] buckets, long count, double percentile,
+                                          long lowest, long highest) {
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min(Math.max(medianValue(i), lowest), highest);
+            }
+        }
+        return highest;
+    }
+
+    static int indexOf(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long mantissa = index - ((long) shift << SUB_BUCKET_BITS);
+        return mantissa << shift;
+    }
+
+    static long highestValue(int index) {
+        return index + 1 < BUCKET_COUNT ? lowestValue(index + 1) - 1 : MAX_TRACKABLE_MICROS;
+    }
+
+    private static long medianValue(int index) {
+        long low = lowestValue(index);
+        return low + (highestValue(index) - low) / 2;
+    }
+
+    private static void clear(AtomicLongArray array) {
+        for (int i = 0; i < array.length(); i++) {
+            array.set(i, 0L);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size ring of recent request samples stored in parallel primitive arrays.
+ *
+ * <p>Writers claim a slot with a single {@code getAndIncrement} and overwrite the oldest
+ * sample, so recording is O(1), lock-free and allocation-free. Each slot carries the
+ * sequence it was written with; readers skip slots that are being written or were
+ * overwritten while they were read (seqlock), so a snapshot never mixes two samples.</p>
+ */
+public class CrudXMetricRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray published; // sequence + 1 of the sample in the slot, 0 while writing
+
+    private final long[] timestamps;
+    private final int[] endpointIds;
+    private final long[] durationMicros;
+    private final long[] memoryKb;
+    private final long[] dtoConversionMs;
+    private final boolean[] success;
+    private final boolean[] dtoUsed;
+    private final String[] errorTypes;
+
+    public CrudXMetricRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(requestedCapacity, 2) - 1) << 1; // Next power of two
+        this.capacity = size;
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        this.timestamps = new long[size];
+        this.endpointIds = new int[size];
+        this.durationMicros = new long[size];
+        this.memoryKb = new long[size];
+        this.dtoConversionMs = new long[size];
+        this.success = new boolean[size];
+        this.dtoUsed = new boolean[size];
+        this.errorTypes = new String[size];
+    }
+
+    public void add(long timestampMillis, int endpointId, long durationMicros, long memoryKb,
+                    long dtoConversionMs, boolean success, boolean dtoUsed, String errorType) {
+        long seq = sequence.getAndIncrement();
+        int slot = (int) (seq & mask);
+
+        published.set(slot, 0L);
+        VarHandle.storeStoreFence();
+
+        this.timestamps[slot] = timestampMillis;
+        this.endpointIds[slot] = endpointId;
+        this.durationMicros[slot] = durationMicros;
+        this.memoryKb[slot] = memoryKb;
+        this.dtoConversionMs[slot] = dtoConversionMs;
+        this.success[slot] = success;
+        this.dtoUsed[slot] = dtoUsed;
+        this.errorTypes[slot] = errorType;
+
+        published.set(slot, seq + 1);
+    }
+
+    /**
+     * Visits retained samples oldest-first, skipping those older than {@code sinceMillis}
+     */
+    public void forEach(long sinceMillis, SampleVisitor visitor) {
+        long head = sequence.get();
+        for (long seq = Math.max(0L, head - capacity); seq < head; seq++) {
+            int slot = (int) (seq & mask);
+            if (published.get(slot) != seq + 1) {
+                continue; // Being written or already overwritten
+            }
+
+            long timestamp = timestamps[slot];
+            int endpointId = endpointIds[slot];
+            long duration = durationMicros[slot];
+            long memory = memoryKb[slot];
+            long dtoMs = dtoConversionMs[slot];
+            boolean ok = success[slot];
+            boolean dto = dtoUsed[slot];
+            String errorType = errorTypes[slot];
+
+            VarHandle.loadLoadFence();
+            if (published.get(slot) != seq + 1 || timestamp < sinceMillis) {
+                continue;
+            }
+            visitor.visit(timestamp, endpointId, duration, memory, dtoMs, ok, dto, errorType);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, 0L);
+            errorTypes[i] = null;
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    public interface SampleVisitor {
+        void visit(long timestampMillis, int endpointId, long durationMicros, long memoryKb,
+                   long dtoConversionMs, boolean success, boolean dtoUsed, String errorType);
+    }
+}
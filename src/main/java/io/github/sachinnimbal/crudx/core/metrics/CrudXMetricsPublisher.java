@@ -0,0 +1,284 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import io.github.sachinnimbal.crudx.core.cache.CrudXBoundedCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXEntityCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXEntityCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXNegativeCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXNegativeCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXQueryCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXQueryCacheManager;
+import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperGenerator;
+import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.MapperMode;
+import io.micrometer.core.instrument.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Publishes CrudX metrics to Micrometer so they can be scraped (e.g. Prometheus) instead of
+ * polling the performance dashboard. A no-op until a {@link MeterRegistry} bean is available.
+ *
+ * <ul>
+ *     <li>{@code crudx.requests} - timer per endpoint (entity, operation, method, uri, outcome),
+ *     fed by {@link CrudXPerformanceTracker} when {@code crudx.performance.enabled=true};
+ *     one observation per recorded sample (latency distribution)</li>
+ *     <li>{@code crudx.requests.estimated} - function timer with the same tags whose count and
+ *     total time are weighted by {@code crudx.performance.sample-rate}; use it for request rates
+ *     and error ratios, which stay unbiased with sampling</li>
+ *     <li>{@code crudx.batch.records} - counter of batch rows by result
+ *     (success, skipped, duplicate, validation)</li>
+ *     <li>{@code crudx.dto.conversion} - timer per entity, operation and {@link MapperMode}</li>
+ *     <li>{@code crudx.cache.size} - gauge per runtime mapper cache, query result cache,
+ *     local entity cache and not-found cache, plus eviction counters</li>
+ * </ul>
+ * Meters are resolved once and cached by the callers, so recording stays allocation-free.
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "crudx.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CrudXMetricsPublisher implements SmartInitializingSingleton {
+
+    public static final String REQUESTS = "crudx.requests";
+    public static final String REQUESTS_ESTIMATED = "crudx.requests.estimated";
+    public static final String BATCH_RECORDS = "crudx.batch.records";
+    public static final String DTO_CONVERSION = "crudx.dto.conversion";
+    public static final String CACHE_SIZE = "crudx.cache.size";
+    public static final String CACHE_EVICTIONS = "crudx.cache.evictions";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final ObjectProvider<CrudXMapperGenerator> mapperGeneratorProvider;
+    private final ObjectProvider<CrudXQueryCacheManager> queryCacheManagerProvider;
+    private final ObjectProvider<CrudXEntityCacheManager> entityCacheManagerProvider;
+    private final ObjectProvider<CrudXNegativeCacheManager> negativeCacheManagerProvider;
+    private final CrudXProperties properties;
+    private volatile MeterRegistry registry;
+
+    public CrudXMetricsPublisher(ObjectProvider<MeterRegistry> registryProvider,
+                                 ObjectProvider<CrudXMapperGenerator> mapperGeneratorProvider,
+                                 ObjectProvider<CrudXQueryCacheManager> queryCacheManagerProvider,
+                                 ObjectProvider<CrudXEntityCacheManager> entityCacheManagerProvider,
+                                 ObjectProvider<CrudXNegativeCacheManager> negativeCacheManagerProvider,
+                                 CrudXProperties properties) {
+        this.registryProvider = registryProvider;
+        this.mapperGeneratorProvider = mapperGeneratorProvider;
+        this.queryCacheManagerProvider = queryCacheManagerProvider;
+        this.entityCacheManagerProvider = entityCacheManagerProvider;
+        this.negativeCacheManagerProvider = negativeCacheManagerProvider;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            log.debug("No MeterRegistry available - CrudX Micrometer export disabled");
+            return;
+        }
+
+        CrudXMapperGenerator mapperGenerator = mapperGeneratorProvider.getIfAvailable();
+        if (mapperGenerator != null) {
+            for (CrudXBoundedCache<?, ?> cache : mapperGenerator.getCaches()) {
+                registerCache(cache);
+            }
+        }
+        CrudXQueryCacheManager queryCacheManager = queryCacheManagerProvider.getIfAvailable();
+        if (queryCacheManager != null) {
+            for (CrudXQueryCache cache : queryCacheManager.getCaches()) {
+                registerCache(cache.getResults());
+            }
+        }
+        CrudXEntityCacheManager entityCacheManager = entityCacheManagerProvider.getIfAvailable();
+        if (entityCacheManager != null) {
+            for (CrudXEntityCache cache : entityCacheManager.getCaches()) {
+                registerCache(cache.getLocal());
+            }
+        }
+        CrudXNegativeCacheManager negativeCacheManager = negativeCacheManagerProvider.getIfAvailable();
+        if (negativeCacheManager != null) {
+            for (CrudXNegativeCache cache : negativeCacheManager.getCaches()) {
+                registerCache(cache.getMissing());
+            }
+        }
+        log.info("✓ CrudX metrics published to Micrometer ({})", registry.getClass().getSimpleName());
+    }
+
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * Success and error timers for one tracked endpoint; {@code null} when export is disabled.
+     * The error timer is registered on the first failure, so endpoints that never fail do not
+     * publish a second series (or histogram) set.
+     */
+    public RequestTimers requestTimers(EndpointRecorder recorder) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return null;
+        }
+        return new RequestTimers(
+                requestMeters(meterRegistry, recorder, "SUCCESS"),
+                () -> requestMeters(meterRegistry, recorder, "ERROR"));
+    }
+
+    /**
+     * DTO conversion timer for one entity, operation and mapper mode; {@code null} when export is disabled
+     */
+    public Timer dtoConversionTimer(String entityName, CrudXOperation operation, MapperMode mode) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return null;
+        }
+        return Timer.builder(DTO_CONVERSION)
+                .description("Entity/DTO conversion time")
+                .tag("entity", entityName)
+                .tag("operation", operation.name())
+                .tag("mapper", mode.name())
+                .publishPercentileHistogram(properties.getMetrics().isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    public void recordBatch(String entityName, CrudXOperation operation, long success, long skipped,
+                            Integer duplicates, Integer validationFailures) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        incrementBatch(meterRegistry, entityName, operation, "success", success);
+        incrementBatch(meterRegistry, entityName, operation, "skipped", skipped);
+        incrementBatch(meterRegistry, entityName, operation, "duplicate", duplicates != null ? duplicates : 0);
+        incrementBatch(meterRegistry, entityName, operation, "validation", validationFailures != null ? validationFailures : 0);
+    }
+
+    /**
+     * Size gauge and eviction counter for a bounded cache (tag {@code cache=<name>})
+     */
+    public void registerCache(CrudXBoundedCache<?, ?> cache) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder(CACHE_SIZE, cache, CrudXBoundedCache::size)
+                .description("Entries in a CrudX cache")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder(CACHE_EVICTIONS, cache, CrudXBoundedCache::getEvictionCount)
+                .description("Entries evicted from a CrudX cache")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+    }
+
+    // ==================== HELPERS ====================
+
+    private OutcomeMeters requestMeters(MeterRegistry meterRegistry, EndpointRecorder recorder, String outcome) {
+        Tags tags = Tags.of(
+                "entity", tagValue(recorder.getEntityName()),
+                "operation", tagValue(recorder.getOperation()),
+                "method", recorder.getMethod(),
+                "uri", recorder.getEndpoint(),
+                "outcome", outcome);
+        Timer sampled = Timer.builder(REQUESTS)
+                .description("CrudX endpoint latency (recorded samples)")
+                .tags(tags)
+                .publishPercentileHistogram(properties.getMetrics().isPercentileHistogram())
+                .register(meterRegistry);
+
+        OutcomeMeters meters = new OutcomeMeters(sampled);
+        FunctionTimer.builder(REQUESTS_ESTIMATED, meters, OutcomeMeters::getEstimatedCount,
+                        OutcomeMeters::getEstimatedNanos, TimeUnit.NANOSECONDS)
+                .description("CrudX endpoint requests and time, weighted by the sample rate")
+                .tags(tags)
+                .register(meterRegistry);
+        return meters;
+    }
+
+    private void incrementBatch(MeterRegistry meterRegistry, String entityName, CrudXOperation operation,
+                                String result, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder(BATCH_RECORDS)
+                .description("Rows processed by CrudX batch operations")
+                .tag("entity", entityName)
+                .tag("operation", operation.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private static String tagValue(String value) {
+        return value != null ? value : "none";
+    }
+
+    /**
+     * Success and error meters cached on an {@link EndpointRecorder}
+     */
+    public static final class RequestTimers {
+        private final OutcomeMeters success;
+        private final Supplier<OutcomeMeters> errorMetersFactory;
+        private volatile OutcomeMeters error;
+
+        RequestTimers(OutcomeMeters success, Supplier<OutcomeMeters> errorMetersFactory) {
+            this.success = success;
+            this.errorMetersFactory = errorMetersFactory;
+        }
+
+        /**
+         * One timer observation plus two adder updates, whatever the weight
+         *
+         * @param weight requests this sample stands for (crudx.performance.sample-rate)
+         */
+        public void record(boolean ok, long durationNanos, long weight) {
+            OutcomeMeters meters = ok ? success : errorMeters();
+            meters.sampled.record(durationNanos, TimeUnit.NANOSECONDS);
+            meters.estimatedCount.add(weight);
+            meters.estimatedNanos.add(durationNanos * weight);
+        }
+
+        private OutcomeMeters errorMeters() {
+            OutcomeMeters meters = error;
+            if (meters == null) {
+                synchronized (this) {
+                    // The function timer is bound to the first instance; create exactly one
+                    meters = error;
+                    if (meters == null) {
+                        meters = errorMetersFactory.get();
+                        error = meters;
+                    }
+                }
+            }
+            return meters;
+        }
+    }
+
+    /**
+     * Sampled timer plus the weighted totals behind {@code crudx.requests.estimated}
+     */
+    static final class OutcomeMeters {
+        private final Timer sampled;
+        private final LongAdder estimatedCount = new LongAdder();
+        private final LongAdder estimatedNanos = new LongAdder();
+
+        OutcomeMeters(Timer sampled) {
+            this.sampled = sampled;
+        }
+
+        long getEstimatedCount() {
+            return estimatedCount.sum();
+        }
+
+        double getEstimatedNanos() {
+            return estimatedNanos.sum();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds Mongo commands into {@link CrudXStatementCapture} as {@code <command> <collection>}
+ * (e.g. {@code find users}). The sync driver raises these events on the calling thread,
+ * so they land in the capture of the request that issued the command.
+ */
+public class CrudXMongoCommandListener implements CommandListener {
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        BsonValue target = event.getCommand().get(commandName);
+        CrudXStatementCapture.statement(CrudXStatementCapture.MONGO,
+                target != null && target.isString() ? commandName + " " + target.asString().getValue() : commandName);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        CrudXStatementCapture.executionTime(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        CrudXStatementCapture.executionTime(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+}
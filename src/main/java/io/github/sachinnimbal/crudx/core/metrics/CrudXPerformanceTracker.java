@@ -2,24 +2,32 @@ package io.github.sachinnimbal.crudx.core.metrics;
 
 import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
 import static io.github.sachinnimbal.crudx.core.util.TimeUtils.formatExecutionTime;
+import static io.github.sachinnimbal.crudx.core.util.TimeUtils.formatMicros;
 
 @Slf4j
 @Service
 @ConditionalOnProperty(prefix = "crudx.performance", name = "enabled", havingValue = "true")
 public class CrudXPerformanceTracker {
 
+    public static final String OVERFLOW_ENDPOINT = "[other endpoints]";
+    private static final long REPEATED_STATEMENT_WARN_INTERVAL_MS = 60_000L;
+
     private final CrudXProperties properties;
-    private final Deque<PerformanceMetric> metrics;
+    private final CrudXMetricsPublisher metricsPublisher;
     private final LocalDateTime startTime;
 
     // LOCK-FREE counters for real-time stats
@@ -27,60 +35,147 @@ public class CrudXPerformanceTracker {
     private final LongAdder successfulRequests = new LongAdder();
     private final LongAdder failedRequests = new LongAdder();
 
-    public CrudXPerformanceTracker(CrudXProperties properties) {
+    // LOCK-FREE latency histogram (microseconds) across all endpoints
+    private final CrudXLatencyHistogram globalLatency = new CrudXLatencyHistogram();
+
+    // Pre-aggregated per-endpoint counters: method -> route template -> recorder (lookup allocates nothing)
+    private final Map<String, Map<String, EndpointRecorder>> recorders = new ConcurrentHashMap<>(8);
+    private final List<EndpointRecorder> recordersById = new CopyOnWriteArrayList<>();
+    private volatile EndpointRecorder overflowRecorder;
+    private int trackedEndpoints;
+
+    // Recent samples (primitive ring, overwrites oldest)
+    private final CrudXMetricRingBuffer recentSamples;
+
+    // Rolling windows across all endpoints: 60 x 1s (last minute) and 60 x 1m (last hour)
+    private final CrudXRollingWindow globalSeconds = new CrudXRollingWindow(1000L, 60);
+    private final CrudXRollingWindow globalMinutes = new CrudXRollingWindow(60_000L, 60);
+
+    // Top-N slowest requests with the statements they executed
+    private final CrudXSlowRequestLog slowRequests;
+
+    public CrudXPerformanceTracker(CrudXProperties properties,
+                                   ObjectProvider<CrudXMetricsPublisher> metricsPublisher) {
         this.properties = properties;
-        this.metrics = new ConcurrentLinkedDeque<>();
+        this.metricsPublisher = metricsPublisher.getIfAvailable();
         this.startTime = LocalDateTime.now();
 
         CrudXProperties.Performance perf = properties.getPerformance();
+        this.recentSamples = new CrudXMetricRingBuffer(perf.getMaxStoredMetrics());
+        this.slowRequests = new CrudXSlowRequestLog(perf.getSlowRequestLogSize());
+
         log.info("✓ Performance Tracker: Lock-free, zero-allocation mode");
-        log.info("  Max Metrics: {} | Retention: {} min",
-                perf.getMaxStoredMetrics(), perf.getRetentionMinutes());
+        log.info("  Recent samples: {} (ring) | Retention: {} min | Max endpoints: {}",
+                recentSamples.getCapacity(), perf.getRetentionMinutes(), perf.getMaxEndpoints());
+        if (perf.getSampleRate() > 1) {
+            log.info("  Sampling: 1 in {} requests (errors and requests over {}ms always recorded)",
+                    perf.getSampleRate(), perf.getSlowRequestThresholdMs());
+        }
     }
 
     public void recordMetric(String endpoint, String method, String entityName,
                              long executionTimeMs, boolean success, String errorType,
                              Long memoryDeltaKb, Long dtoConversionTimeMs, boolean dtoUsed, String dtoType) {
+        recordMetricNanos(endpoint, method, entityName, null, TimeUnit.MILLISECONDS.toNanos(executionTimeMs),
+                success, errorType,
+                memoryDeltaKb != null ? memoryDeltaKb : -1L,
+                dtoConversionTimeMs != null ? dtoConversionTimeMs : -1L,
+                dtoUsed, dtoType, null, null, 1L);
+    }
 
-        // Update global counters
-        totalRequests.increment();
+    /**
+     * Records a request in O(1) without allocating: striped per-endpoint counters, latency
+     * histograms (microsecond resolution) and one slot of the recent-samples ring.
+     *
+     * @param endpoint            route template (e.g. {@code /api/users/{id}}), not the raw URI
+     * @param operation           CrudX operation served by the handler, or {@code null}
+     * @param memoryDeltaKb       allocated KB, or {@code <= 0} when not measured
+     * @param dtoConversionTimeMs DTO conversion time, or {@code <= 0} when none happened
+     * @param timing              finished phase timing, or {@code null} when the request was not timed
+     * @param statements          statements the request executed, or {@code null} when not captured
+     * @param weight              requests this sample stands for: the sample rate for a randomly
+     *                            sampled request, 1 for one recorded unconditionally (error, slow)
+     */
+    public void recordMetricNanos(String endpoint, String method, String entityName, String operation,
+                                  long executionTimeNanos, boolean success, String errorType,
+                                  long memoryDeltaKb, long dtoConversionTimeMs, boolean dtoUsed, String dtoType,
+                                  CrudXRequestTiming timing, CrudXStatementCapture statements, long weight) {
+
+        long executionTimeMicros = TimeUnit.NANOSECONDS.toMicros(executionTimeNanos);
+        long now = System.currentTimeMillis();
+
+        // Update global counters (weighted, so sampled traffic still estimates the full totals)
+        totalRequests.add(weight);
         if (success) {
-            successfulRequests.increment();
+            successfulRequests.add(weight);
+        } else {
+            failedRequests.add(weight);
+        }
+        globalLatency.record(executionTimeMicros, weight);
+        globalSeconds.record(now, executionTimeMicros, success, weight);
+        globalMinutes.record(now, executionTimeMicros, success, weight);
+
+        // Per-endpoint aggregates
+        EndpointRecorder recorder = recorder(endpoint, method, entityName, operation);
+        recorder.record(executionTimeMicros, success, memoryDeltaKb, dtoConversionTimeMs, dtoType, timing,
+                weight, now);
+        if (statements != null) {
+            recordStatements(recorder, statements, now);
+        }
+        publish(recorder, success, executionTimeNanos, weight);
+
+        // Recent samples for the dashboard timeline
+        recentSamples.add(now, recorder.getId(), executionTimeMicros, memoryDeltaKb,
+                dtoConversionTimeMs, success, dtoUsed, errorType);
+    }
+
+    /**
+     * Logs a request above the slow threshold and keeps it if it is among the N slowest.
+     *
+     * @param statements statements the request executed, or {@code null} when not captured
+     */
+    public void recordSlowRequest(String endpoint, String method, String entityName, String operation,
+                                  long executionTimeNanos, boolean success, String errorType,
+                                  CrudXStatementCapture statements) {
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(executionTimeNanos);
+        List<StatementStats> breakdown = statements != null ? statements.breakdown() : List.of();
+        int statementCount = statements != null ? statements.getCount() : 0;
+        long statementMicros = statements != null ? TimeUnit.NANOSECONDS.toMicros(statements.getTotalNanos()) : 0L;
+
+        if (breakdown.isEmpty()) {
+            log.warn("⚠️  Slow request: {} {} | {}", method, endpoint, formatMicros(durationMicros));
         } else {
-            failedRequests.increment();
+            StatementStats top = breakdown.get(0);
+            log.warn("⚠️  Slow request: {} {} | {} | {} statements ({}) | slowest: {}x {} [{}] {}",
+                    method, endpoint, formatMicros(durationMicros), statementCount, formatMicros(statementMicros),
+                    top.getCount(), top.getTotal(), top.getType(), top.getStatement());
         }
 
-        // Build metric
-        PerformanceMetric metric = PerformanceMetric.builder()
+        if (!slowRequests.isCandidate(durationMicros)) {
+            return;
+        }
+        slowRequests.offer(SlowRequest.builder()
                 .endpoint(endpoint)
                 .method(method)
                 .entityName(entityName)
+                .operation(operation)
+                .timestamp(LocalDateTime.now())
                 .success(success)
                 .errorType(errorType)
-                .timestamp(LocalDateTime.now())
-                .dtoUsed(dtoUsed)
-                .dtoType(dtoType)
-                .build();
-
-        metric.setExecutionTimeMs(executionTimeMs);
-
-        // CRITICAL: Only set memory if valid (non-null)
-        if (memoryDeltaKb != null && memoryDeltaKb > 0) {
-            metric.setMemoryUsedKb(memoryDeltaKb);
-        }
-
-        if (dtoConversionTimeMs != null && dtoConversionTimeMs > 0) {
-            metric.setDtoConversionTimeMs(dtoConversionTimeMs);
-        }
-
-        // Add to bounded queue
-        metrics.addLast(metric);
+                .durationMicros(durationMicros)
+                .duration(formatMicros(durationMicros))
+                .statementCount(statementCount)
+                .statementMicros(statementMicros)
+                .statementTime(formatMicros(statementMicros))
+                .statements(breakdown)
+                .build());
+    }
 
-        // Evict oldest if over limit
-        int maxSize = properties.getPerformance().getMaxStoredMetrics();
-        while (metrics.size() > maxSize) {
-            metrics.pollFirst();
-        }
+    /**
+     * Slowest requests first, with their statement breakdown
+     */
+    public List<SlowRequest> getSlowRequests() {
+        return slowRequests.snapshot();
     }
 
     // Backward compatibility
@@ -98,117 +193,88 @@ public class CrudXPerformanceTracker {
     }
 
     /**
-     * LAZY: Metrics snapshot (minimal allocation)
+     * LAZY: Recent samples, materialized from the ring only when the dashboard asks
      */
     public List<PerformanceMetric> getMetrics() {
-        return new ArrayList<>(metrics);
+        return collectMetrics(null);
     }
 
     public List<PerformanceMetric> getMetricsByEndpoint(String endpoint) {
-        List<PerformanceMetric> result = new ArrayList<>();
-        for (PerformanceMetric m : metrics) {
-            if (m.getEndpoint().equals(endpoint)) {
-                result.add(m);
-            }
-        }
-        return result;
+        return collectMetrics(endpoint);
     }
 
     /**
-     * 🚀 ENTERPRISE-GRADE Summary with streaming aggregation
-     * - Single pass through metrics
-     * - Primitive accumulators (no boxing)
+     * 🚀 Summary straight from the pre-aggregated counters
+     * - No sample walk: cost depends on the number of endpoints only
      * - Lazy formatting (only for result)
      */
     public PerformanceSummary getSummary() {
-        List<PerformanceMetric> snapshot = new ArrayList<>(metrics);
-
-        if (snapshot.isEmpty()) {
+        long total = totalRequests.sum();
+        if (total == 0) {
             return createEmptySummary();
         }
-
-        // STREAMING aggregation with primitive accumulators
-        long totalMs = 0L;
-        long minMs = Long.MAX_VALUE;
-        long maxMs = 0L;
+        long now = System.currentTimeMillis();
 
         long totalMemoryKb = 0L;
         long minMemoryKb = Long.MAX_VALUE;
         long maxMemoryKb = 0L;
-        int memoryCount = 0;
+        long memoryCount = 0L;
 
         long totalDtoMs = 0L;
-        int dtoCount = 0;
+        long dtoCount = 0L;
 
-        LocalDateTime lastRequest = null;
+        long lastRequestMillis = 0L;
 
-        // Endpoint aggregator
-        Map<String, EndpointStatsAggregator> endpointAgg = new HashMap<>(64);
+        long[] phaseTotals = new long[CrudXRequestTiming.phaseCount()];
+        long phaseCalls = 0L;
 
-        // SINGLE PASS: Process all metrics
-        for (PerformanceMetric m : snapshot) {
-            // Execution time
-            Long execMs = m.getExecutionTimeMs();
-            if (execMs != null) {
-                totalMs += execMs;
-                if (execMs < minMs) minMs = execMs;
-                if (execMs > maxMs) maxMs = execMs;
-            }
+        Map<String, EndpointStats> finalStats = new HashMap<>(recordersById.size());
+        List<EndpointRecorder> active = new ArrayList<>(recordersById.size());
 
-            // Memory
-            Long memKb = m.getMemoryUsedKb();
-            if (memKb != null && memKb > 0) {
-                totalMemoryKb += memKb;
-                memoryCount++;
-                if (memKb < minMemoryKb) minMemoryKb = memKb;
-                if (memKb > maxMemoryKb) maxMemoryKb = memKb;
+        for (EndpointRecorder recorder : recordersById) {
+            if (recorder.getTotalCalls() == 0) {
+                continue;
             }
-
-            // DTO
-            Long dtoMs = m.getDtoConversionTimeMs();
-            if (dtoMs != null && dtoMs > 0) {
-                totalDtoMs += dtoMs;
-                dtoCount++;
+            active.add(recorder);
+            finalStats.put(recorder.getKey(), recorder.toStats());
+
+            long memCalls = recorder.getMemoryCalls();
+            if (memCalls > 0) {
+                totalMemoryKb += recorder.getTotalMemoryKb();
+                memoryCount += memCalls;
+                minMemoryKb = Math.min(minMemoryKb, recorder.getMinMemoryKb());
+                maxMemoryKb = Math.max(maxMemoryKb, recorder.getMaxMemoryKb());
             }
 
-            // Last request
-            if (lastRequest == null || m.getTimestamp().isAfter(lastRequest)) {
-                lastRequest = m.getTimestamp();
-            }
+            totalDtoMs += recorder.getTotalDtoMs();
+            dtoCount += recorder.getDtoCalls();
+            lastRequestMillis = Math.max(lastRequestMillis, recorder.getLastCallMillis());
 
-            // Endpoint stats
-            String key = m.getMethod() + " " + m.getEndpoint();
-            endpointAgg.computeIfAbsent(key,
-                            k -> new EndpointStatsAggregator(m.getEndpoint(), m.getMethod(), m.getEntityName()))
-                    .addMetric(m);
+            for (int i = 0; i < phaseTotals.length; i++) {
+                phaseTotals[i] += recorder.getPhaseNanos(i);
+            }
+            phaseCalls += recorder.getPhaseCalls();
         }
 
         // Use atomic counters for totals
-        long total = totalRequests.sum();
         long successful = successfulRequests.sum();
         long failed = failedRequests.sum();
-        double successRate = total > 0 ? (double) successful / total * 100 : 0.0;
+        double successRate = (double) successful / total * 100;
+
+        // Execution time from the histogram: count, sum, min and max cover the same requests
+        long recorded = globalLatency.getCount();
+        long totalMs = TimeUnit.MICROSECONDS.toMillis(globalLatency.getTotalMicros());
+        long avgMs = recorded > 0 ? totalMs / recorded : 0L;
 
         // Calculate averages (primitives)
-        long avgMs = total > 0 ? totalMs / total : 0L;
         long avgMemKb = memoryCount > 0 ? totalMemoryKb / memoryCount : 0L;
         long avgDtoMs = dtoCount > 0 ? totalDtoMs / dtoCount : 0L;
 
-        // Build final stats map (lazy)
-        Map<String, EndpointStats> finalStats = new HashMap<>(endpointAgg.size());
-        for (Map.Entry<String, EndpointStatsAggregator> entry : endpointAgg.entrySet()) {
-            finalStats.put(entry.getKey(), entry.getValue().build());
-        }
-
-        // Top endpoints (extract from aggregators)
-        Map<String, Long> topSlow = extractTopN(endpointAgg,
-                (agg) -> agg.maxExecutionTimeMs, 5);
-
-        Map<String, Long> topErrors = extractTopN(endpointAgg,
-                (agg) -> (long) agg.failedCalls, 5);
-
-        Map<String, Long> topMemory = extractTopN(endpointAgg,
-                (agg) -> agg.maxMemoryKb != null ? agg.maxMemoryKb : 0L, 5);
+        // Top endpoints
+        Map<String, Long> topSlow = extractTopN(active,
+                r -> TimeUnit.MICROSECONDS.toMillis(r.getLatency().getMaxMicros()), 5);
+        Map<String, Long> topErrors = extractTopN(active, EndpointRecorder::getFailedCalls, 5);
+        Map<String, Long> topMemory = extractTopN(active, EndpointRecorder::getMaxMemoryKb, 5);
 
         return PerformanceSummary.builder()
                 .totalRequests(total)
@@ -217,54 +283,189 @@ public class CrudXPerformanceTracker {
                 .successRate(successRate)
                 .totalExecutionTime(formatExecutionTime(totalMs))
                 .avgExecutionTime(formatExecutionTime(avgMs))
-                .minExecutionTime(minMs != Long.MAX_VALUE ? formatExecutionTime(minMs) : "N/A")
-                .maxExecutionTime(formatExecutionTime(maxMs))
+                .minExecutionTime(recorded > 0 ?
+                        formatExecutionTime(TimeUnit.MICROSECONDS.toMillis(globalLatency.getMinMicros())) : "N/A")
+                .maxExecutionTime(formatExecutionTime(TimeUnit.MICROSECONDS.toMillis(globalLatency.getMaxMicros())))
+                .latency(globalLatency.snapshot())
+                .lastMinute(globalSeconds.snapshot(now, 60, true))
+                .lastHour(globalMinutes.snapshot(now, 60, true))
+                .phases(PhaseTiming.breakdown(phaseTotals, phaseCalls))
                 .avgMemory(formatMemory(memoryCount > 0 ? avgMemKb : null))
                 .minMemory(formatMemory(minMemoryKb != Long.MAX_VALUE ? minMemoryKb : null))
                 .maxMemory(formatMemory(memoryCount > 0 ? maxMemoryKb : null))
                 .totalMemory(formatMemory(memoryCount > 0 ? totalMemoryKb : null))
                 .totalDtoConversionTime(formatExecutionTime(totalDtoMs))
                 .avgDtoConversionTime(formatExecutionTime(avgDtoMs))
-                .totalDtoConversions((long) dtoCount)
+                .totalDtoConversions(dtoCount)
                 .monitoringStartTime(startTime)
-                .lastRequestTime(lastRequest)
+                .lastRequestTime(lastRequestMillis > 0 ? EndpointRecorder.toLocalDateTime(lastRequestMillis) : null)
                 .endpointStats(finalStats)
                 .topSlowEndpoints(topSlow)
                 .topErrorEndpoints(topErrors)
                 .topMemoryEndpoints(topMemory)
+                .sampleRate(Math.max(1, properties.getPerformance().getSampleRate()))
+                .slowRequests(slowRequests.snapshot())
                 .build();
     }
 
+    /**
+     * Latency percentiles per window: since startup, last completed minute and last 5 minutes
+     */
+    public Map<String, Object> getLatencySnapshots() {
+        Map<String, Object> endpoints = new TreeMap<>();
+        for (EndpointRecorder recorder : recordersById) {
+            if (recorder.getTotalCalls() > 0) {
+                endpoints.put(recorder.getKey(), windows(recorder.getLatency()));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("overall", windows(globalLatency));
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    @Scheduled(fixedRate = 60000) // 1 minute
+    public void rotateLatencyIntervals() {
+        globalLatency.rotate();
+        for (EndpointRecorder recorder : recordersById) {
+            recorder.getLatency().rotate();
+        }
+    }
+
     public void clearMetrics() {
-        metrics.clear();
+        // Recorders keep their ids so in-flight requests and ring slots stay consistent
+        for (EndpointRecorder recorder : recordersById) {
+            recorder.reset();
+        }
+        recentSamples.clear();
+        slowRequests.clear();
+        globalLatency.reset();
+        globalSeconds.reset();
+        globalMinutes.reset();
         totalRequests.reset();
         successfulRequests.reset();
         failedRequests.reset();
         log.info("Performance metrics cleared");
     }
 
-    @Scheduled(fixedRate = 300000) // 5 minutes
-    public void cleanupOldMetrics() {
-        LocalDateTime cutoff = LocalDateTime.now()
-                .minusMinutes(properties.getPerformance().getRetentionMinutes());
-
-        int removed = 0;
-        while (!metrics.isEmpty()) {
-            PerformanceMetric oldest = metrics.peekFirst();
-            if (oldest != null && oldest.getTimestamp().isBefore(cutoff)) {
-                metrics.pollFirst();
-                removed++;
-            } else {
-                break;
-            }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Statement count per request plus N+1 detection: one statement repeated at least
+     * {@code repeated-statement-threshold} times, and - when the request reported how many rows
+     * it handled - at least once for every other row, is flagged and logged (once a minute per endpoint)
+     */
+    private void recordStatements(EndpointRecorder recorder, CrudXStatementCapture statements, long now) {
+        int threshold = properties.getPerformance().getRepeatedStatementThreshold();
+        int repeats = statements.getMaxRepeatCount();
+        int items = statements.getItems();
+        boolean repeated = threshold > 0 && repeats >= threshold && (items == 0 || repeats * 2L >= items);
+
+        String repeatedStatement = repeated ? statements.getMostRepeated() : null;
+        recorder.recordStatements(statements.getCount(), items, repeatedStatement);
+
+        if (repeated && recorder.shouldWarnRepeated(now, REPEATED_STATEMENT_WARN_INTERVAL_MS)) {
+            log.warn("⚠️  Possible N+1: {} | {} statements for {} rows | {}x {}",
+                    recorder.getKey(), statements.getCount(), items > 0 ? items : "?", repeats, repeatedStatement);
         }
+    }
 
-        if (removed > 0) {
-            log.debug("Cleaned up {} old metrics", removed);
+    private void publish(EndpointRecorder recorder, boolean success, long executionTimeNanos, long weight) {
+        if (metricsPublisher == null || !metricsPublisher.isEnabled()) {
+            return;
+        }
+        CrudXMetricsPublisher.RequestTimers timers = recorder.getTimers();
+        if (timers == null) {
+            timers = metricsPublisher.requestTimers(recorder);
+            recorder.setTimers(timers);
         }
+        timers.record(success, executionTimeNanos, weight);
     }
 
-    // ==================== HELPERS ====================
+    private EndpointRecorder recorder(String endpoint, String method, String entityName, String operation) {
+        Map<String, EndpointRecorder> byEndpoint = recorders.get(method);
+        if (byEndpoint == null) {
+            byEndpoint = recorders.computeIfAbsent(method, m -> new ConcurrentHashMap<>(64));
+        }
+
+        EndpointRecorder recorder = byEndpoint.get(endpoint);
+        return recorder != null ? recorder : register(byEndpoint, endpoint, method, entityName, operation);
+    }
+
+    /**
+     * Cardinality guard: past {@code maxEndpoints} distinct keys, new endpoints share one
+     * overflow recorder and are not added to the lookup map, so memory stays bounded
+     */
+    private synchronized EndpointRecorder register(Map<String, EndpointRecorder> byEndpoint, String endpoint,
+                                                   String method, String entityName, String operation) {
+        EndpointRecorder recorder = byEndpoint.get(endpoint);
+        if (recorder != null) {
+            return recorder;
+        }
+
+        if (trackedEndpoints >= properties.getPerformance().getMaxEndpoints()) {
+            if (overflowRecorder == null) {
+                overflowRecorder = new EndpointRecorder(recordersById.size(), OVERFLOW_ENDPOINT, "*", null, null);
+                recordersById.add(overflowRecorder);
+                log.warn("⚠️  More than {} endpoints tracked; further endpoints are aggregated into '{}' " +
+                                "(first: {} {}). Raise crudx.performance.max-endpoints if this is expected.",
+                        trackedEndpoints, OVERFLOW_ENDPOINT, method, endpoint);
+            }
+            return overflowRecorder;
+        }
+
+        recorder = new EndpointRecorder(recordersById.size(), endpoint, method, entityName, operation);
+        recordersById.add(recorder);
+        byEndpoint.put(endpoint, recorder);
+        trackedEndpoints++;
+        return recorder;
+    }
+
+    private List<PerformanceMetric> collectMetrics(String endpointFilter) {
+        // Samples older than the retention period are skipped while reading; the ring never grows
+        long retentionCutoffMillis = System.currentTimeMillis()
+                - TimeUnit.MINUTES.toMillis(properties.getPerformance().getRetentionMinutes());
+        List<PerformanceMetric> result = new ArrayList<>(recentSamples.getCapacity());
+        recentSamples.forEach(retentionCutoffMillis,
+                (timestamp, endpointId, durationMicros, memoryKb, dtoMs, success, dtoUsed, errorType) -> {
+                    EndpointRecorder recorder = recordersById.get(endpointId);
+                    if (endpointFilter != null && !endpointFilter.equals(recorder.getEndpoint())) {
+                        return;
+                    }
+
+                    PerformanceMetric metric = PerformanceMetric.builder()
+                            .endpoint(recorder.getEndpoint())
+                            .method(recorder.getMethod())
+                            .entityName(recorder.getEntityName())
+                            .operation(recorder.getOperation())
+                            .success(success)
+                            .errorType(errorType)
+                            .timestamp(EndpointRecorder.toLocalDateTime(timestamp))
+                            .dtoUsed(dtoUsed)
+                            .dtoType(dtoUsed ? recorder.getDtoType() : "NONE")
+                            .build();
+
+                    metric.setExecutionTimeMs(TimeUnit.MICROSECONDS.toMillis(durationMicros));
+                    if (memoryKb > 0) {
+                        metric.setMemoryUsedKb(memoryKb);
+                    }
+                    if (dtoMs > 0) {
+                        metric.setDtoConversionTimeMs(dtoMs);
+                    }
+                    result.add(metric);
+                });
+        return result;
+    }
+
+    private Map<String, LatencySnapshot> windows(CrudXLatencyHistogram histogram) {
+        Map<String, LatencySnapshot> windows = new LinkedHashMap<>();
+        windows.put("total", histogram.snapshot());
+        windows.put("last1m", histogram.intervalSnapshot(1));
+        windows.put("last5m", histogram.intervalSnapshot(CrudXLatencyHistogram.INTERVALS));
+        return windows;
+    }
 
     private PerformanceSummary createEmptySummary() {
         return PerformanceSummary.builder()
@@ -274,6 +475,7 @@ public class CrudXPerformanceTracker {
                 .avgExecutionTime("0ms")
                 .minExecutionTime("0ms")
                 .maxExecutionTime("0ms")
+                .latency(LatencySnapshot.empty())
                 .avgMemory("N/A")
                 .minMemory("N/A")
                 .maxMemory("N/A")
@@ -282,155 +484,27 @@ public class CrudXPerformanceTracker {
                 .avgDtoConversionTime("N/A")
                 .totalDtoConversions(0L)
                 .monitoringStartTime(startTime)
+                .sampleRate(Math.max(1, properties.getPerformance().getSampleRate()))
                 .build();
     }
 
     private String formatMemory(Long kb) {
-        if (kb == null || kb <= 0) return "N/A";
-        if (kb < 1024) return kb + " KB";
-        double mb = kb / 1024.0;
-        return String.format("%d KB (%.2f MB)", kb, mb);
+        return kb != null ? EndpointRecorder.formatMemory(kb) : "N/A";
     }
 
     /**
-     * Extract top-N with custom extractor (zero intermediate collections)
+     * Extract top-N endpoints by a counter value
      */
-    private Map<String, Long> extractTopN(
-            Map<String, EndpointStatsAggregator> aggregators,
-            java.util.function.Function<EndpointStatsAggregator, Long> extractor,
-            int n) {
-
-        return aggregators.entrySet().stream()
-                .sorted((e1, e2) -> Long.compare(
-                        extractor.apply(e2.getValue()),
-                        extractor.apply(e1.getValue())))
+    private Map<String, Long> extractTopN(List<EndpointRecorder> active,
+                                          ToLongFunction<EndpointRecorder> extractor, int n) {
+        return active.stream()
+                .sorted((r1, r2) -> Long.compare(extractor.applyAsLong(r2), extractor.applyAsLong(r1)))
                 .limit(n)
                 .collect(java.util.stream.Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> extractor.apply(e.getValue()),
+                        EndpointRecorder::getKey,
+                        extractor::applyAsLong,
                         (e1, e2) -> e1,
                         LinkedHashMap::new
                 ));
     }
-
-    /**
-     * LIGHTWEIGHT aggregator (primitives only, no intermediate formatting)
-     */
-    private static class EndpointStatsAggregator {
-        String endpoint, method, entityName, dtoType;
-        int totalCalls, successfulCalls, failedCalls;
-        long totalExecutionTimeMs, minExecutionTimeMs = Long.MAX_VALUE, maxExecutionTimeMs;
-        Long totalMemoryKb, minMemoryKb, maxMemoryKb;
-        int memoryCallCount;
-        long totalDtoMs, minDtoMs = Long.MAX_VALUE, maxDtoMs;
-        int dtoCount;
-
-        EndpointStatsAggregator(String endpoint, String method, String entityName) {
-            this.endpoint = endpoint;
-            this.method = method;
-            this.entityName = entityName;
-            this.dtoType = "NONE";
-        }
-
-        void addMetric(PerformanceMetric m) {
-            totalCalls++;
-            if (m.isSuccess()) successfulCalls++;
-            else failedCalls++;
-
-            Long execMs = m.getExecutionTimeMs();
-            if (execMs != null) {
-                totalExecutionTimeMs += execMs;
-                if (execMs < minExecutionTimeMs) minExecutionTimeMs = execMs;
-                if (execMs > maxExecutionTimeMs) maxExecutionTimeMs = execMs;
-            }
-
-            Long memKb = m.getMemoryUsedKb();
-            if (memKb != null && memKb > 0) {
-                if (totalMemoryKb == null) {
-                    totalMemoryKb = 0L;
-                    minMemoryKb = Long.MAX_VALUE;
-                    maxMemoryKb = 0L;
-                }
-                totalMemoryKb += memKb;
-                memoryCallCount++;
-                if (memKb < minMemoryKb) minMemoryKb = memKb;
-                if (memKb > maxMemoryKb) maxMemoryKb = memKb;
-            }
-
-            Long dtoMs = m.getDtoConversionTimeMs();
-            if (dtoMs != null && dtoMs > 0) {
-                totalDtoMs += dtoMs;
-                dtoCount++;
-                if (dtoMs < minDtoMs) minDtoMs = dtoMs;
-                if (dtoMs > maxDtoMs) maxDtoMs = dtoMs;
-            }
-            String metricDtoType = m.getDtoType();
-            if (metricDtoType != null && !"NONE".equals(metricDtoType)) {
-                // If we have a non-NONE value
-                if ("NONE".equals(this.dtoType)) {
-                    // First non-NONE value, use it
-                    this.dtoType = metricDtoType;
-                } else if (!this.dtoType.equals(metricDtoType)) {
-                    // Different non-NONE values, mark as MIXED
-                    this.dtoType = "MIXED";
-                }
-            }
-        }
-
-        EndpointStats build() {
-            EndpointStats stats = new EndpointStats();
-            stats.setEndpoint(endpoint);
-            stats.setMethod(method);
-            stats.setEntityName(entityName);
-            stats.setTotalCalls(totalCalls);
-            stats.setSuccessfulCalls(successfulCalls);
-            stats.setFailedCalls(failedCalls);
-
-            // Format times
-            stats.setTotalExecutionTime(formatExecutionTime(totalExecutionTimeMs));
-            stats.setMinExecutionTime(minExecutionTimeMs != Long.MAX_VALUE ?
-                    formatExecutionTime(minExecutionTimeMs) : "N/A");
-            stats.setMaxExecutionTime(formatExecutionTime(maxExecutionTimeMs));
-            stats.setAvgExecutionTime(totalCalls > 0 ?
-                    formatExecutionTime(totalExecutionTimeMs / totalCalls) : "N/A");
-
-            // Format memory
-            if (totalMemoryKb != null && memoryCallCount > 0) {
-                stats.setTotalMemory(formatMemoryLocal(totalMemoryKb));
-                stats.setAvgMemory(formatMemoryLocal(totalMemoryKb / memoryCallCount));
-                stats.setMinMemory(minMemoryKb != null && minMemoryKb != Long.MAX_VALUE ?
-                        formatMemoryLocal(minMemoryKb) : "N/A");
-                stats.setMaxMemory(formatMemoryLocal(maxMemoryKb));
-            } else {
-                stats.setTotalMemory("N/A");
-                stats.setAvgMemory("N/A");
-                stats.setMinMemory("N/A");
-                stats.setMaxMemory("N/A");
-            }
-
-            // Format DTO
-            if (dtoCount > 0) {
-                stats.setTotalDtoConversionTime(formatExecutionTime(totalDtoMs));
-                stats.setAvgDtoConversionTime(formatExecutionTime(totalDtoMs / dtoCount));
-                stats.setMinDtoConversionTime(minDtoMs != Long.MAX_VALUE ?
-                        formatExecutionTime(minDtoMs) : "N/A");
-                stats.setMaxDtoConversionTime(formatExecutionTime(maxDtoMs));
-                stats.setDtoConversionCount(dtoCount);
-            } else {
-                stats.setTotalDtoConversionTime("N/A");
-                stats.setAvgDtoConversionTime("N/A");
-                stats.setMinDtoConversionTime("N/A");
-                stats.setMaxDtoConversionTime("N/A");
-            }
-            stats.setDtoType(this.dtoType);
-            return stats;
-        }
-
-        private String formatMemoryLocal(Long kb) {
-            if (kb == null || kb <= 0) return "N/A";
-            if (kb < 1024) return kb + " KB";
-            double mb = kb / 1024.0;
-            return String.format("%d KB (%.2f MB)", kb, mb);
-        }
-    }
-}
\ No newline at end of file
+}
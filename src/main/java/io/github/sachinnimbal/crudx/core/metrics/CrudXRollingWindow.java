@@ -0,0 +1,120 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring of fixed-width time buckets (e.g. 60 x 1s or 60 x 1m).
+ *
+ * <p>Each slot remembers the bucket epoch it holds. A request landing in a slot that still
+ * holds an older epoch claims it and clears it first, so rotation is O(1), lazy and needs
+ * no scheduler; slots that were never reused are simply skipped when read. Memory is fixed
+ * at five {@code long}s per bucket.</p>
+ */
+public class CrudXRollingWindow {
+
+    private static final long CLAIMING = -1L;
+
+    private final long bucketMillis;
+    private final int size;
+
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray errors;
+    private final AtomicLongArray totalMicros;
+    private final AtomicLongArray maxMicros;
+
+    public CrudXRollingWindow(long bucketMillis, int size) {
+        this.bucketMillis = bucketMillis;
+        this.size = size;
+        this.epochs = new AtomicLongArray(size);
+        this.counts = new AtomicLongArray(size);
+        this.errors = new AtomicLongArray(size);
+        this.totalMicros = new AtomicLongArray(size);
+        this.maxMicros = new AtomicLongArray(size);
+    }
+
+    /**
+     * @param weight requests this sample stands for (see request sampling)
+     */
+    public void record(long nowMillis, long micros, boolean success, long weight) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = (int) (epoch % size);
+
+        if (!claim(slot, epoch)) {
+            return; // Lost a race at a bucket boundary - drop the sample rather than block
+        }
+        counts.addAndGet(slot, weight);
+        if (!success) {
+            errors.addAndGet(slot, weight);
+        }
+        totalMicros.addAndGet(slot, micros * weight);
+
+        long current;
+        while (micros > (current = maxMicros.get(slot)) && !maxMicros.compareAndSet(slot, current, micros)) {
+            // retry
+        }
+    }
+
+    /**
+     * Aggregate of the last {@code buckets} buckets (including the current, partial one)
+     *
+     * @param withSeries include per-bucket request counts, oldest first
+     */
+    public WindowStats snapshot(long nowMillis, int buckets, boolean withSeries) {
+        int span = Math.min(buckets, size);
+        long nowEpoch = nowMillis / bucketMillis;
+        long[] series = withSeries ? new long[span] : null;
+
+        long requests = 0L;
+        long failed = 0L;
+        long micros = 0L;
+        long max = 0L;
+        for (int i = 0; i < span; i++) {
+            long epoch = nowEpoch - i;
+            int slot = (int) (epoch % size);
+            if (epochs.get(slot) != epoch) {
+                continue;
+            }
+            long count = counts.get(slot);
+            requests += count;
+            failed += errors.get(slot);
+            micros += totalMicros.get(slot);
+            max = Math.max(max, maxMicros.get(slot));
+            if (series != null) {
+                series[span - 1 - i] = count;
+            }
+        }
+        return WindowStats.of(span * bucketMillis / 1000, requests, failed, micros, max, series);
+    }
+
+    public void reset() {
+        for (int i = 0; i < size; i++) {
+            epochs.set(i, 0L);
+            counts.set(i, 0L);
+            errors.set(i, 0L);
+            totalMicros.set(i, 0L);
+            maxMicros.set(i, 0L);
+        }
+    }
+
+    /**
+     * Makes {@code slot} hold {@code epoch}, clearing it if it still holds an older one
+     *
+     * @return {@code false} if the slot is being cleared by another thread or already moved on
+     */
+    private boolean claim(int slot, long epoch) {
+        long held = epochs.get(slot);
+        if (held == epoch) {
+            return true;
+        }
+        if (held == CLAIMING || held > epoch || !epochs.compareAndSet(slot, held, CLAIMING)) {
+            return epochs.get(slot) == epoch;
+        }
+        counts.set(slot, 0L);
+        errors.set(slot, 0L);
+        totalMicros.set(slot, 0L);
+        maxMicros.set(slot, 0L);
+        epochs.set(slot, epoch);
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the N slowest requests seen since startup (or the last clear).
+ *
+ * <p>Only requests above the slow threshold are offered, so a plain lock is enough;
+ * {@link #isCandidate(long)} lets callers skip building a {@link SlowRequest} that
+ * would be rejected anyway.</p>
+ */
+public class CrudXSlowRequestLog {
+
+    private static final Comparator<SlowRequest> BY_DURATION =
+            Comparator.comparingLong(SlowRequest::getDurationMicros);
+
+    private final int capacity;
+    private final PriorityQueue<SlowRequest> slowest;
+    private volatile long floorMicros;
+
+    public CrudXSlowRequestLog(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.slowest = new PriorityQueue<>(Math.max(1, this.capacity), BY_DURATION);
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * @return {@code true} if a request of this duration would enter the log
+     */
+    public boolean isCandidate(long durationMicros) {
+        return capacity > 0 && durationMicros > floorMicros;
+    }
+
+    public synchronized void offer(SlowRequest request) {
+        if (capacity == 0) {
+            return;
+        }
+        if (slowest.size() < capacity) {
+            slowest.add(request);
+        } else if (request.getDurationMicros() > slowest.peek().getDurationMicros()) {
+            slowest.poll();
+            slowest.add(request);
+        }
+        floorMicros = slowest.size() < capacity ? 0L : slowest.peek().getDurationMicros();
+    }
+
+    /**
+     * Slowest first
+     */
+    public synchronized List<SlowRequest> snapshot() {
+        List<SlowRequest> result = new ArrayList<>(slowest);
+        result.sort(BY_DURATION.reversed());
+        return result;
+    }
+
+    public synchronized void clear() {
+        slowest.clear();
+        floorMicros = 0L;
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request statement log: SQL statements (via Hibernate) and Mongo commands executed on
+ * the request thread, grouped by statement text with execution count and time.
+ *
+ * <p>One instance per thread, reset and reused for every request. Recording a statement is
+ * a short scan over at most {@value #MAX_DISTINCT} distinct entries (Hibernate hands out the
+ * same SQL string instance for the same statement), so the fast path allocates nothing.
+ * Statements beyond that limit are folded into a single overflow entry. Outside a tracked
+ * request (or on worker threads) every call is a no-op.</p>
+ *
+ * <p>A statement is counted when it is issued ({@link #statement(String, String)}); the
+ * execution time reported afterwards is attributed to the statement issued last.</p>
+ *
+ * <p>Code that handles a known number of rows (result lists, batches) reports it through
+ * {@link #items(int)}, so the statement count can be compared against the work size:
+ * one parameterized statement repeated once per row is the N+1 signature.</p>
+ */
+public final class CrudXStatementCapture {
+
+    public static final String SQL = "SQL";
+    public static final String MONGO = "MONGO";
+
+    static final int MAX_DISTINCT = 32;
+    private static final int MAX_STATEMENT_LENGTH = 500;
+    private static final String OTHER_STATEMENTS = "[other statements]";
+    private static final ThreadLocal<CrudXStatementCapture> CURRENT = new ThreadLocal<>();
+
+    private final String[] statements = new String[MAX_DISTINCT];
+    private final String[] types = new String[MAX_DISTINCT];
+    private final int[] counts = new int[MAX_DISTINCT];
+    private final long[] nanos = new long[MAX_DISTINCT];
+    private final long[] maxNanos = new long[MAX_DISTINCT];
+    private int distinct;
+    private int count;
+    private long totalNanos;
+    private int items;
+
+    private int current = -1;
+    private long executionStart;
+    private boolean active;
+
+    private CrudXStatementCapture() {
+    }
+
+    /**
+     * Starts capturing statements for the request on this thread
+     */
+    public static void begin() {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture == null) {
+            capture = new CrudXStatementCapture();
+            CURRENT.set(capture);
+        }
+        Arrays.fill(capture.statements, 0, capture.distinct, null);
+        Arrays.fill(capture.types, 0, capture.distinct, null);
+        Arrays.fill(capture.counts, 0);
+        Arrays.fill(capture.nanos, 0L);
+        Arrays.fill(capture.maxNanos, 0L);
+        capture.distinct = 0;
+        capture.count = 0;
+        capture.totalNanos = 0L;
+        capture.items = 0;
+        capture.current = -1;
+        capture.executionStart = 0L;
+        capture.active = true;
+    }
+
+    /**
+     * Stops capturing; the returned instance stays readable until the next {@link #begin()}
+     * on this thread
+     *
+     * @return the finished capture, or {@code null} when no request was being captured
+     */
+    public static CrudXStatementCapture finish() {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture == null || !capture.active) {
+            return null;
+        }
+        capture.active = false;
+        return capture;
+    }
+
+    /**
+     * Counts one execution of {@code statement} (SQL text or Mongo {@code command collection})
+     */
+    public static void statement(String type, String statement) {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture != null && capture.active && statement != null) {
+            capture.add(type, statement);
+        }
+    }
+
+    /**
+     * Reports the number of rows the request works on (largest value wins)
+     */
+    public static void items(int count) {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture != null && capture.active && count > capture.items) {
+            capture.items = count;
+        }
+    }
+
+    /**
+     * Marks the start of the execution of the statement issued last
+     */
+    public static void executionStarted() {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture != null && capture.active) {
+            capture.executionStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Attributes the time since {@link #executionStarted()} to the statement issued last
+     */
+    public static void executionEnded() {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture != null && capture.active && capture.executionStart != 0L) {
+            capture.addTime(System.nanoTime() - capture.executionStart);
+            capture.executionStart = 0L;
+        }
+    }
+
+    /**
+     * Attributes an execution time measured elsewhere (e.g. by the Mongo driver) to the
+     * statement issued last
+     */
+    public static void executionTime(long elapsedNanos) {
+        CrudXStatementCapture capture = CURRENT.get();
+        if (capture != null && capture.active) {
+            capture.addTime(elapsedNanos);
+        }
+    }
+
+    /**
+     * Statements executed by the request
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public int getDistinctCount() {
+        return distinct;
+    }
+
+    /**
+     * Rows the request reported working on, or 0 when unknown
+     */
+    public int getItems() {
+        return items;
+    }
+
+    /**
+     * Executions of the most repeated statement
+     */
+    public int getMaxRepeatCount() {
+        return counts[indexOfMostRepeated()];
+    }
+
+    /**
+     * The most repeated statement as {@code [TYPE] statement}, or {@code null} when none ran
+     */
+    public String getMostRepeated() {
+        int index = indexOfMostRepeated();
+        if (counts[index] == 0) {
+            return null;
+        }
+        String statement = statements[index];
+        return "[" + types[index] + "] " + (statement.length() > MAX_STATEMENT_LENGTH
+                ? statement.substring(0, MAX_STATEMENT_LENGTH) + "..." : statement);
+    }
+
+    /**
+     * Per-statement breakdown, slowest first (allocates; call only for requests worth reporting)
+     */
+    public List<StatementStats> breakdown() {
+        List<StatementStats> result = new ArrayList<>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            String statement = statements[i].length() > MAX_STATEMENT_LENGTH
+                    ? statements[i].substring(0, MAX_STATEMENT_LENGTH) + "..." : statements[i];
+            result.add(StatementStats.of(types[i], statement, counts[i],
+                    TimeUnit.NANOSECONDS.toMicros(nanos[i]), TimeUnit.NANOSECONDS.toMicros(maxNanos[i])));
+        }
+        result.sort(Comparator.comparingLong(StatementStats::getTotalMicros).reversed()
+                .thenComparing(Comparator.comparingInt(StatementStats::getCount).reversed()));
+        return result;
+    }
+
+    private void add(String type, String statement) {
+        int index = indexOf(type, statement);
+        counts[index]++;
+        count++;
+        current = index;
+        executionStart = 0L;
+    }
+
+    private void addTime(long elapsed) {
+        if (elapsed <= 0) {
+            return;
+        }
+        totalNanos += elapsed;
+        if (current >= 0) {
+            nanos[current] += elapsed;
+            if (elapsed > maxNanos[current]) {
+                maxNanos[current] = elapsed;
+            }
+        }
+    }
+
+    private int indexOfMostRepeated() {
+        int best = 0;
+        for (int i = 1; i < distinct; i++) {
+            if (counts[i] > counts[best] && statements[i] != OTHER_STATEMENTS) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int indexOf(String type, String statement) {
+        for (int i = 0; i < distinct; i++) {
+            String existing = statements[i];
+            if ((existing == statement || existing.equals(statement)) && types[i].equals(type)) {
+                return i;
+            }
+        }
+        if (distinct < MAX_DISTINCT - 1) {
+            statements[distinct] = statement;
+            types[distinct] = type;
+            return distinct++;
+        }
+        // Last slot collects everything that did not fit
+        int overflow = MAX_DISTINCT - 1;
+        if (statements[overflow] == null) {
+            statements[overflow] = OTHER_STATEMENTS;
+            types[overflow] = type;
+            distinct = MAX_DISTINCT;
+        }
+        return overflow;
+    }
+}
@@ -0,0 +1,410 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.sachinnimbal.crudx.core.util.TimeUtils.formatExecutionTime;
+
+/**
+ * Pre-aggregated, striped counters for one endpoint.
+ *
+ * <p>Recording touches only {@link LongAdder}s, CAS-updated min/max and the latency
+ * histogram, so it is O(1), allocation-free and contention-free across request threads.
+ * {@link #toStats()} formats an {@link EndpointStats} on demand for the dashboard.</p>
+ */
+public class EndpointRecorder {
+
+    private static final String NONE = "NONE";
+
+    @Getter
+    private final int id;
+    @Getter
+    private final String key;
+    @Getter
+    private final String endpoint;
+    @Getter
+    private final String method;
+    @Getter
+    private final String entityName;
+    @Getter
+    private final String operation;
+    @Getter
+    private final CrudXLatencyHistogram latency = new CrudXLatencyHistogram();
+
+    // Rolling throughput/latency: 60 x 1s (last minute) and 60 x 1m (last hour)
+    private final CrudXRollingWindow seconds = new CrudXRollingWindow(1000L, 60);
+    private final CrudXRollingWindow minutes = new CrudXRollingWindow(60_000L, 60);
+
+    // Micrometer timers, resolved on first use when export is enabled
+    @Getter
+    @Setter
+    private volatile CrudXMetricsPublisher.RequestTimers timers;
+
+    private final LongAdder totalCalls = new LongAdder();
+    private final LongAdder successfulCalls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+
+    private final LongAdder totalMemoryKb = new LongAdder();
+    private final LongAdder memoryCalls = new LongAdder();
+    private final AtomicLong minMemoryKb = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMemoryKb = new AtomicLong();
+
+    private final LongAdder totalDtoMs = new LongAdder();
+    private final LongAdder dtoCalls = new LongAdder();
+    private final AtomicLong minDtoMs = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxDtoMs = new AtomicLong();
+
+    // Exclusive time per CrudXPhase, indexed by ordinal
+    private final LongAdder[] phaseNanos = newAdders(CrudXRequestTiming.phaseCount());
+    private final LongAdder phaseCalls = new LongAdder();
+
+    // Statements (SQL + Mongo) per request, and the sums for a least-squares fit of
+    // statements against rows handled: a slope near 1 means one statement per row (N+1)
+    private final LongAdder statementRequests = new LongAdder();
+    private final LongAdder totalStatements = new LongAdder();
+    private final AtomicLong maxStatements = new AtomicLong();
+    private final LongAdder itemRequests = new LongAdder();
+    private final LongAdder sumItems = new LongAdder();
+    private final LongAdder sumItemStatements = new LongAdder();
+    private final LongAdder sumItemsTimesStatements = new LongAdder();
+    private final LongAdder sumItemsSquared = new LongAdder();
+    private final LongAdder repeatedStatementRequests = new LongAdder();
+    private final AtomicLong lastRepeatedWarningMillis = new AtomicLong();
+    private volatile String repeatedStatement;
+
+    private final AtomicLong firstCallMillis = new AtomicLong();
+    private volatile long lastCallMillis;
+    private volatile String dtoType = NONE;
+
+    public EndpointRecorder(int id, String endpoint, String method, String entityName, String operation) {
+        this.id = id;
+        this.key = method + " " + endpoint;
+        this.endpoint = endpoint;
+        this.method = method;
+        this.entityName = entityName;
+        this.operation = operation;
+    }
+
+    /**
+     * @param memoryKb        bytes allocated in KB, or {@code <= 0} when not measured
+     * @param dtoConversionMs DTO conversion time, or {@code <= 0} when no conversion happened
+     * @param timing          finished phase timing, or {@code null} when the request was not timed
+     * @param weight          requests this one stands for (the sample rate when sampled, else 1);
+     *                        memory, DTO and phase figures are averages and stay unweighted
+     */
+    public void record(long durationMicros, boolean success, long memoryKb, long dtoConversionMs,
+                       String dtoType, CrudXRequestTiming timing, long weight, long nowMillis) {
+        totalCalls.add(weight);
+        if (success) {
+            successfulCalls.add(weight);
+        } else {
+            failedCalls.add(weight);
+        }
+        latency.record(durationMicros, weight);
+        seconds.record(nowMillis, durationMicros, success, weight);
+        minutes.record(nowMillis, durationMicros, success, weight);
+
+        if (memoryKb > 0) {
+            totalMemoryKb.add(memoryKb);
+            memoryCalls.increment();
+            updateMin(minMemoryKb, memoryKb);
+            updateMax(maxMemoryKb, memoryKb);
+        }
+
+        if (dtoConversionMs > 0) {
+            totalDtoMs.add(dtoConversionMs);
+            dtoCalls.increment();
+            updateMin(minDtoMs, dtoConversionMs);
+            updateMax(maxDtoMs, dtoConversionMs);
+        }
+
+        if (timing != null) {
+            for (int i = 0; i < phaseNanos.length; i++) {
+                long nanos = timing.getNanos(i);
+                if (nanos > 0) {
+                    phaseNanos[i].add(nanos);
+                }
+            }
+            phaseCalls.increment();
+        }
+
+        mergeDtoType(dtoType);
+        firstCallMillis.compareAndSet(0L, nowMillis);
+        lastCallMillis = nowMillis;
+    }
+
+    /**
+     * @param statements        statements the request executed
+     * @param items             rows the request handled, or 0 when unknown
+     * @param repeatedStatement the statement flagged as repeated per row, or {@code null}
+     */
+    public void recordStatements(int statements, int items, String repeatedStatement) {
+        statementRequests.increment();
+        totalStatements.add(statements);
+        updateMax(maxStatements, statements);
+
+        if (items > 0) {
+            itemRequests.increment();
+            sumItems.add(items);
+            sumItemStatements.add(statements);
+            sumItemsTimesStatements.add((long) items * statements);
+            sumItemsSquared.add((long) items * items);
+        }
+
+        if (repeatedStatement != null) {
+            repeatedStatementRequests.increment();
+            this.repeatedStatement = repeatedStatement;
+        }
+    }
+
+    /**
+     * @return {@code true} at most once per {@code intervalMillis}, to rate-limit N+1 warnings
+     */
+    public boolean shouldWarnRepeated(long nowMillis, long intervalMillis) {
+        long last = lastRepeatedWarningMillis.get();
+        return nowMillis - last >= intervalMillis && lastRepeatedWarningMillis.compareAndSet(last, nowMillis);
+    }
+
+    public void reset() {
+        totalCalls.reset();
+        successfulCalls.reset();
+        failedCalls.reset();
+        latency.reset();
+        seconds.reset();
+        minutes.reset();
+        totalMemoryKb.reset();
+        memoryCalls.reset();
+        minMemoryKb.set(Long.MAX_VALUE);
+        maxMemoryKb.set(0L);
+        totalDtoMs.reset();
+        dtoCalls.reset();
+        minDtoMs.set(Long.MAX_VALUE);
+        maxDtoMs.set(0L);
+        for (LongAdder adder : phaseNanos) {
+            adder.reset();
+        }
+        phaseCalls.reset();
+        statementRequests.reset();
+        totalStatements.reset();
+        maxStatements.set(0L);
+        itemRequests.reset();
+        sumItems.reset();
+        sumItemStatements.reset();
+        sumItemsTimesStatements.reset();
+        sumItemsSquared.reset();
+        repeatedStatementRequests.reset();
+        lastRepeatedWarningMillis.set(0L);
+        repeatedStatement = null;
+        firstCallMillis.set(0L);
+        lastCallMillis = 0L;
+        dtoType = NONE;
+    }
+
+    public long getTotalCalls() {
+        return totalCalls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public long getTotalMemoryKb() {
+        return totalMemoryKb.sum();
+    }
+
+    public long getMemoryCalls() {
+        return memoryCalls.sum();
+    }
+
+    public long getMinMemoryKb() {
+        return minMemoryKb.get();
+    }
+
+    public long getMaxMemoryKb() {
+        return maxMemoryKb.get();
+    }
+
+    public long getTotalDtoMs() {
+        return totalDtoMs.sum();
+    }
+
+    public long getDtoCalls() {
+        return dtoCalls.sum();
+    }
+
+    public long getPhaseNanos(int phaseIndex) {
+        return phaseNanos[phaseIndex].sum();
+    }
+
+    public long getPhaseCalls() {
+        return phaseCalls.sum();
+    }
+
+    public long getLastCallMillis() {
+        return lastCallMillis;
+    }
+
+    public String getDtoType() {
+        return dtoType;
+    }
+
+    public EndpointStats toStats() {
+        long calls = totalCalls.sum();
+        long memCalls = memoryCalls.sum();
+        long dtoCount = dtoCalls.sum();
+
+        EndpointStats stats = new EndpointStats();
+        stats.setEndpoint(endpoint);
+        stats.setMethod(method);
+        stats.setEntityName(entityName);
+        stats.setOperation(operation);
+        stats.setTotalCalls(calls);
+        stats.setSuccessfulCalls(successfulCalls.sum());
+        stats.setFailedCalls(failedCalls.sum());
+
+        // Times (histogram count, sum, min and max cover the same requests)
+        long totalMs = TimeUnit.MICROSECONDS.toMillis(latency.getTotalMicros());
+        long latencyCount = latency.getCount();
+        stats.setTotalExecutionTimeMs(totalMs);
+        stats.setMinExecutionTimeMs(TimeUnit.MICROSECONDS.toMillis(latency.getMinMicros()));
+        stats.setMaxExecutionTimeMs(TimeUnit.MICROSECONDS.toMillis(latency.getMaxMicros()));
+        stats.setTotalExecutionTime(formatExecutionTime(totalMs));
+        stats.setMinExecutionTime(latencyCount > 0 ? formatExecutionTime(stats.getMinExecutionTimeMs()) : "N/A");
+        stats.setMaxExecutionTime(formatExecutionTime(stats.getMaxExecutionTimeMs()));
+        stats.setAvgExecutionTime(latencyCount > 0 ? formatExecutionTime(totalMs / latencyCount) : "N/A");
+        stats.setLatency(latency.snapshot());
+
+        long now = System.currentTimeMillis();
+        stats.setLastMinute(seconds.snapshot(now, 60, false));
+        stats.setLastHour(minutes.snapshot(now, 60, false));
+
+        // Memory
+        if (memCalls > 0) {
+            long totalKb = totalMemoryKb.sum();
+            stats.setTotalMemoryKb(totalKb);
+            stats.setMinMemoryKb(minMemoryKb.get());
+            stats.setMaxMemoryKb(maxMemoryKb.get());
+            stats.setMemoryCallCount(memCalls);
+            stats.setTotalMemory(formatMemory(totalKb));
+            stats.setAvgMemory(formatMemory(totalKb / memCalls));
+            stats.setMinMemory(formatMemory(minMemoryKb.get()));
+            stats.setMaxMemory(formatMemory(maxMemoryKb.get()));
+        } else {
+            stats.setTotalMemory("N/A");
+            stats.setAvgMemory("N/A");
+            stats.setMinMemory("N/A");
+            stats.setMaxMemory("N/A");
+        }
+
+        // DTO
+        if (dtoCount > 0) {
+            long dtoMs = totalDtoMs.sum();
+            stats.setTotalDtoConversionTimeMs(dtoMs);
+            stats.setTotalDtoConversionTime(formatExecutionTime(dtoMs));
+            stats.setAvgDtoConversionTime(formatExecutionTime(dtoMs / dtoCount));
+            stats.setMinDtoConversionTime(formatExecutionTime(minDtoMs.get()));
+            stats.setMaxDtoConversionTime(formatExecutionTime(maxDtoMs.get()));
+            stats.setDtoConversionCount(dtoCount);
+        } else {
+            stats.setTotalDtoConversionTime("N/A");
+            stats.setAvgDtoConversionTime("N/A");
+            stats.setMinDtoConversionTime("N/A");
+            stats.setMaxDtoConversionTime("N/A");
+        }
+        stats.setDtoType(dtoType);
+
+        // Phase breakdown (parse / convert / validate / DB / map / serialize)
+        long[] phaseTotals = new long[phaseNanos.length];
+        for (int i = 0; i < phaseTotals.length; i++) {
+            phaseTotals[i] = phaseNanos[i].sum();
+        }
+        stats.setPhases(PhaseTiming.breakdown(phaseTotals, phaseCalls.sum()));
+
+        // Statements per request and N+1 detection
+        long statementCount = statementRequests.sum();
+        if (statementCount > 0) {
+            stats.setAvgStatements((double) totalStatements.sum() / statementCount);
+            stats.setMaxStatements(maxStatements.get());
+            stats.setStatementsPerItem(statementsPerItem());
+            stats.setRepeatedStatementRequests(repeatedStatementRequests.sum());
+            stats.setRepeatedStatement(repeatedStatement);
+        }
+
+        long first = firstCallMillis.get();
+        stats.setFirstCall(first > 0 ? toLocalDateTime(first) : null);
+        stats.setLastCall(lastCallMillis > 0 ? toLocalDateTime(lastCallMillis) : null);
+        return stats;
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Slope of statements over rows handled (least squares), or {@code null} without at least
+     * two different row counts to fit
+     */
+    private Double statementsPerItem() {
+        long n = itemRequests.sum();
+        if (n < 2) {
+            return null;
+        }
+        double sx = sumItems.sum();
+        double sy = sumItemStatements.sum();
+        double denominator = n * (double) sumItemsSquared.sum() - sx * sx;
+        if (denominator <= 0) {
+            return null;
+        }
+        return (n * (double) sumItemsTimesStatements.sum() - sx * sy) / denominator;
+    }
+
+    private void mergeDtoType(String type) {
+        if (type == null || NONE.equals(type)) {
+            return;
+        }
+        String current = dtoType;
+        if (NONE.equals(current)) {
+            dtoType = type; // First non-NONE value
+        } else if (!"MIXED".equals(current) && !current.equals(type)) {
+            dtoType = "MIXED"; // Different non-NONE values
+        }
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static void updateMin(AtomicLong target, long value) {
+        long current;
+        while (value < (current = target.get()) && !target.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    private static void updateMax(AtomicLong target, long value) {
+        long current;
+        while (value > (current = target.get()) && !target.compareAndSet(current, value)) {
+            // retry
+        }
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    static String formatMemory(long kb) {
+        if (kb <= 0) return "N/A";
+        if (kb < 1024) return kb + " KB";
+        double mb = kb / 1024.0;
+        return String.format("%d KB (%.2f MB)", kb, mb);
+    }
+}
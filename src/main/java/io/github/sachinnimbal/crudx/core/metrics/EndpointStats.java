@@ -20,6 +20,7 @@ public class EndpointStats {
     private String endpoint;
     private String method;
     private String entityName;
+    private String operation;
     private long totalCalls;
     private long successfulCalls;
     private long failedCalls;
@@ -30,6 +31,24 @@ public class EndpointStats {
     private String maxExecutionTime;
     private String avgExecutionTime;
 
+    // Latency percentiles (p50/p90/p99/p99.9) since startup
+    private LatencySnapshot latency;
+
+    // Rolling windows: throughput, error rate and latency over the last minute / hour
+    private WindowStats lastMinute;
+    private WindowStats lastHour;
+
+    // Exclusive time per phase (PARSE, CONVERT, VALIDATE, DB, MAP, SERIALIZE, OTHER)
+    private Map<String, PhaseTiming> phases;
+
+    // Statements (SQL + Mongo) per request; statementsPerItem is the slope of statements over
+    // rows handled (~0 for set-based access, ~1 or more when a statement runs per row)
+    private double avgStatements;
+    private long maxStatements;
+    private Double statementsPerItem;
+    private long repeatedStatementRequests;
+    private String repeatedStatement;
+
     // Formatted memory strings
     private String totalMemory;
     private String avgMemory;
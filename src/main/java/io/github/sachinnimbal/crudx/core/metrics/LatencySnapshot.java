@@ -0,0 +1,42 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySnapshot {
+    private long count;
+
+    // Raw values in microseconds (for charts and sorting)
+    private long minMicros;
+    private long maxMicros;
+    private long meanMicros;
+    private long p50Micros;
+    private long p90Micros;
+    private long p99Micros;
+    private long p999Micros;
+
+    // Formatted strings
+    private String mean;
+    private String p50;
+    private String p90;
+    private String p99;
+    private String p999;
+    private String max;
+
+    public static LatencySnapshot empty() {
+        return LatencySnapshot.builder()
+                .mean("N/A")
+                .p50("N/A")
+                .p90("N/A")
+                .p99("N/A")
+                .p999("N/A")
+                .max("N/A")
+                .build();
+    }
+}
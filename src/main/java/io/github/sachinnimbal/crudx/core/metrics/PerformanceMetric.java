@@ -17,6 +17,7 @@ public class PerformanceMetric {
     private String endpoint;
     private String method;
     private String entityName;
+    private String operation;
     private String executionTime; // Changed to String with format
     private LocalDateTime timestamp;
     private boolean success;
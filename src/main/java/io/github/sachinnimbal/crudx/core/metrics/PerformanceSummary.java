@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -24,6 +25,16 @@ public class PerformanceSummary {
     private String minExecutionTime;
     private String maxExecutionTime;
 
+    // Latency percentiles (p50/p90/p99/p99.9) since startup
+    private LatencySnapshot latency;
+
+    // Rolling windows (60 x 1s, 60 x 1m) with per-bucket request series
+    private WindowStats lastMinute;
+    private WindowStats lastHour;
+
+    // Exclusive time per phase across all endpoints
+    private Map<String, PhaseTiming> phases;
+
     // Formatted memory strings
     private String avgMemory;
     private String minMemory;
@@ -41,4 +52,10 @@ public class PerformanceSummary {
     private Map<String, Long> topSlowEndpoints;
     private Map<String, Long> topErrorEndpoints;
     private Map<String, Long> topMemoryEndpoints;
+
+    // N slowest requests with the SQL/Mongo statements they executed
+    private List<SlowRequest> slowRequests;
+
+    // 1 = every request recorded; N = counts and latencies are estimated from a 1-in-N sample
+    private int sampleRate;
 }
\ No newline at end of file
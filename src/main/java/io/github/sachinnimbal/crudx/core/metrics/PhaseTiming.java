@@ -0,0 +1,61 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import io.github.sachinnimbal.crudx.core.util.TimeUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent in one {@link io.github.sachinnimbal.crudx.core.enums.CrudXPhase} across timed requests
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhaseTiming {
+    private long totalMicros;
+    private long avgMicros;
+
+    // Share of the timed requests' total time (0-100)
+    private double percentage;
+
+    // Formatted strings
+    private String total;
+    private String avg;
+
+    /**
+     * Breakdown in {@code CrudXPhase} order; empty when no request was timed
+     *
+     * @param totalNanos per-phase totals indexed by {@code CrudXPhase.ordinal()}
+     * @param requests   number of requests the totals cover
+     */
+    public static Map<String, PhaseTiming> breakdown(long[] totalNanos, long requests) {
+        Map<String, PhaseTiming> phases = new LinkedHashMap<>();
+        if (requests <= 0) {
+            return phases;
+        }
+
+        long sum = 0L;
+        for (long nanos : totalNanos) {
+            sum += nanos;
+        }
+
+        for (int i = 0; i < totalNanos.length; i++) {
+            long totalMicros = TimeUnit.NANOSECONDS.toMicros(totalNanos[i]);
+            long avgMicros = totalMicros / requests;
+            phases.put(CrudXRequestTiming.phase(i).name(), PhaseTiming.builder()
+                    .totalMicros(totalMicros)
+                    .avgMicros(avgMicros)
+                    .percentage(sum > 0 ? totalNanos[i] * 100.0 / sum : 0.0)
+                    .total(TimeUtils.formatMicros(totalMicros))
+                    .avg(TimeUtils.formatMicros(avgMicros))
+                    .build());
+        }
+        return phases;
+    }
+}
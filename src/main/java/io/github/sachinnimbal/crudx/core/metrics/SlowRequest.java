@@ -0,0 +1,36 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A request slower than {@code crudx.performance.slow-request-threshold-ms}, with the
+ * statements it executed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowRequest {
+    private String endpoint;
+    private String method;
+    private String entityName;
+    private String operation;
+    private LocalDateTime timestamp;
+    private boolean success;
+    private String errorType;
+
+    private long durationMicros;
+    private String duration;
+
+    // Statements executed by the request (SQL + Mongo) and the time spent in them
+    private int statementCount;
+    private long statementMicros;
+    private String statementTime;
+    private List<StatementStats> statements;
+}
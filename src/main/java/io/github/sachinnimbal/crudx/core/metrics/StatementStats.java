@@ -0,0 +1,39 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import io.github.sachinnimbal.crudx.core.util.TimeUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One distinct statement (SQL text or Mongo command) executed by a request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementStats {
+    // SQL or MONGO
+    private String type;
+    private String statement;
+    private int count;
+    private long totalMicros;
+    private long maxMicros;
+
+    // Formatted strings
+    private String total;
+    private String max;
+
+    static StatementStats of(String type, String statement, int count, long totalMicros, long maxMicros) {
+        return StatementStats.builder()
+                .type(type)
+                .statement(statement)
+                .count(count)
+                .totalMicros(totalMicros)
+                .maxMicros(maxMicros)
+                .total(TimeUtils.formatMicros(totalMicros))
+                .max(TimeUtils.formatMicros(maxMicros))
+                .build();
+    }
+}
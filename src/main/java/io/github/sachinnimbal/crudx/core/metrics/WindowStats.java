@@ -0,0 +1,52 @@
+package io.github.sachinnimbal.crudx.core.metrics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.sachinnimbal.crudx.core.util.TimeUtils;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Throughput and latency over a recent time window (e.g. last minute, last hour)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WindowStats {
+    private long windowSeconds;
+    private long requests;
+    private long failedRequests;
+    private double requestsPerSecond;
+    private double errorRate;
+
+    // Raw values in microseconds
+    private long avgMicros;
+    private long maxMicros;
+
+    // Formatted strings
+    private String avg;
+    private String max;
+
+    // Requests per bucket, oldest first (only for the overall windows)
+    private long[] series;
+
+    static WindowStats of(long windowSeconds, long requests, long failed, long totalMicros, long maxMicros,
+                          long[] series) {
+        long avgMicros = requests > 0 ? totalMicros / requests : 0L;
+        return WindowStats.builder()
+                .windowSeconds(windowSeconds)
+                .requests(requests)
+                .failedRequests(failed)
+                .requestsPerSecond(windowSeconds > 0 ? (double) requests / windowSeconds : 0.0)
+                .errorRate(requests > 0 ? failed * 100.0 / requests : 0.0)
+                .avgMicros(avgMicros)
+                .maxMicros(maxMicros)
+                .avg(requests > 0 ? TimeUtils.formatMicros(avgMicros) : "N/A")
+                .max(requests > 0 ? TimeUtils.formatMicros(maxMicros) : "N/A")
+                .series(series)
+                .build();
+    }
+}
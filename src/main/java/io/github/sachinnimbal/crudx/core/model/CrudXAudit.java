@@ -38,4 +38,26 @@ public class CrudXAudit implements Serializable {
     public void onUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Whether entities of this type carry an audit block ({@code audit.updatedAt} can be queried)
+     */
+    public static boolean isAudited(Class<?> entityClass) {
+        return CrudXMySQLEntity.class.isAssignableFrom(entityClass)
+                || CrudXPostgreSQLEntity.class.isAssignableFrom(entityClass)
+                || CrudXMongoEntity.class.isAssignableFrom(entityClass);
+    }
+
+    /**
+     * Last modification time of a CrudX entity, or {@code null} when it has no audit block
+     */
+    public static LocalDateTime lastModified(Object entity) {
+        CrudXAudit audit = switch (entity) {
+            case CrudXMySQLEntity<?> mySql -> mySql.getAudit();
+            case CrudXPostgreSQLEntity<?> postgres -> postgres.getAudit();
+            case CrudXMongoEntity<?> mongo -> mongo.getAudit();
+            case null, default -> null;
+        };
+        return audit != null ? audit.getUpdatedAt() : null;
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.sachinnimbal.crudx.core.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap version of a whole collection: any insert, update or delete changes the row count or
+ * the latest {@code audit.updatedAt}, so an unchanged pair means unchanged pages.
+ *
+ * @param count        number of rows
+ * @param lastModified latest {@code audit.updatedAt}, or {@code null} for an empty collection
+ */
+public record CrudXCollectionVersion(long count, LocalDateTime lastModified) {
+}
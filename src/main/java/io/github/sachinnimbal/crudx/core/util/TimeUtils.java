@@ -21,4 +21,13 @@ public class TimeUtils {
             return String.format("%dh %dm %ds (%d ms)", hours, minutes, seconds, milliseconds);
         }
     }
+
+    public static String formatMicros(long microseconds) {
+        if (microseconds < 1000) {
+            return microseconds + " µs";
+        } else if (microseconds < 1_000_000) {
+            return String.format("%.2f ms", microseconds / 1000.0);
+        }
+        return formatExecutionTime(microseconds / 1000);
+    }
 }
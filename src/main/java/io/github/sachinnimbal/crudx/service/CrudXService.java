@@ -1,14 +1,17 @@
 package io.github.sachinnimbal.crudx.service;
 
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
+import io.github.sachinnimbal.crudx.core.model.CrudXCollectionVersion;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface CrudXService<T extends CrudXBaseEntity<ID>, ID extends Serializable> {
 
@@ -24,6 +27,38 @@ public interface CrudXService<T extends CrudXBaseEntity<ID>, ID extends Serializ
 
     Page<T> findAll(Pageable pageable);
 
+    /**
+     * Finds an entity, eagerly fetching the given association paths (e.g. "customer.address").
+     * Stores without fetch planning ignore the paths.
+     */
+    default T findById(ID id, Set<String> fetchPaths) {
+        return findById(id);
+    }
+
+    default List<T> findAll(Sort sort, Set<String> fetchPaths) {
+        return sort != null && sort.isSorted() ? findAll(sort) : findAll();
+    }
+
+    default Page<T> findAll(Pageable pageable, Set<String> fetchPaths) {
+        return findAll(pageable);
+    }
+
+    /**
+     * Version probe for conditional GETs: {@code audit.updatedAt} of one entity, read without
+     * loading the entity. {@code null} when the entity does not exist or has no audit block.
+     */
+    default LocalDateTime findLastModified(ID id) {
+        return null;
+    }
+
+    /**
+     * Version probe for conditional page GETs: row count and latest {@code audit.updatedAt}.
+     * {@code null} when the store cannot answer it cheaply.
+     */
+    default CrudXCollectionVersion findCollectionVersion() {
+        return null;
+    }
+
     T update(ID id, Map<String, Object> updates);
 
     T delete(ID id);
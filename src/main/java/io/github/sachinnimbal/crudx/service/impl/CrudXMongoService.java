@@ -2,9 +2,17 @@ package io.github.sachinnimbal.crudx.service.impl;
 
 import io.github.sachinnimbal.crudx.core.annotations.CrudXUniqueConstraint;
 import io.github.sachinnimbal.crudx.core.annotations.CrudXUniqueConstraints;
+import io.github.sachinnimbal.crudx.core.cache.CrudXCacheInvalidator;
 import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
 import io.github.sachinnimbal.crudx.core.exception.DuplicateEntityException;
 import io.github.sachinnimbal.crudx.core.exception.EntityNotFoundException;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXBatchChunkEvent;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXDuplicateCheckEvent;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.model.CrudXAudit;
+import io.github.sachinnimbal.crudx.core.model.CrudXCollectionVersion;
 import io.github.sachinnimbal.crudx.core.model.CrudXMongoEntity;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import io.github.sachinnimbal.crudx.service.CrudXService;
@@ -30,6 +38,7 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -51,7 +60,11 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
     @Autowired
     protected CrudXProperties crudxProperties;
 
+    @Autowired(required = false)
+    protected CrudXCacheInvalidator cacheInvalidator;
+
     private static final int MAX_IN_MEMORY_THRESHOLD = 5000;
+    private static final String UPDATED_AT_FIELD = "audit.updatedAt";
     private static final int BATCH_SIZE_SMALL = 200;
     private static final int BATCH_SIZE_MEDIUM = 500;
     private static final int BATCH_SIZE_LARGE = 1000;
@@ -94,6 +107,7 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
         validateUniqueConstraints(entity);
         entity.onCreate();
         T saved = mongoTemplate.save(entity);
+        invalidateInsertedCaches(List.of(saved.getId()));
 
         log.info("Entity created: {} in {} ms", saved.getId(), System.currentTimeMillis() - start);
         return saved;
@@ -189,6 +203,11 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
 
             // Database Insert Phase
             if (!chunkEntities.isEmpty()) {
+                CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+                chunkEvent.begin();
+                int chunkSuccessStart = successCount;
+                int chunkSkipStart = skipCount;
+                int chunkDuplicateStart = duplicateSkipCount;
                 try {
                     BulkOperations bulkOps = mongoTemplate.bulkOps(
                             skipDuplicates ? BulkOperations.BulkMode.UNORDERED : BulkOperations.BulkMode.ORDERED,
@@ -236,7 +255,13 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
                     }
 
                     skipCount += chunkEntities.size();
+                } finally {
+                    // Inserts are visible immediately (and may be partial on failure)
+                    invalidateInsertedCaches(null);
                 }
+                chunkEvent.complete(getEntityClassName(), CrudXOperation.BATCH_CREATE.name(), CrudXBatchChunkEvent.STAGE_INSERT,
+                        batchNumber, chunkEntities.size(), successCount - chunkSuccessStart,
+                        skipCount - chunkSkipStart, duplicateSkipCount - chunkDuplicateStart);
             }
 
             chunkEntities.clear();
@@ -336,7 +361,12 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
                 query.addCriteria(Criteria.where("_id").ne(entity.getId()));
             }
 
-            return mongoTemplate.exists(query, entityClass);
+            CrudXDuplicateCheckEvent event = new CrudXDuplicateCheckEvent();
+            event.begin();
+            boolean duplicate = mongoTemplate.exists(query, entityClass);
+            event.complete(getEntityClassName(), constraint, duplicate);
+
+            return duplicate;
 
         } catch (Exception e) {
             log.warn("Duplicate check failed: {}", e.getMessage());
@@ -399,7 +429,7 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
      */
     private void validateJakartaValidation(T entity) {
         if (validator != null) {
-            Set<ConstraintViolation<T>> violations = validator.validate(entity);
+            Set<ConstraintViolation<T>> violations = validateTimed(entity);
             if (!violations.isEmpty()) {
                 String errors = violations.stream()
                         .map(v -> v.getPropertyPath() + ": " + v.getMessage())
@@ -409,6 +439,18 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
         }
     }
 
+    /**
+     * Bean Validation, attributed to the VALIDATE phase of the current request
+     */
+    private Set<ConstraintViolation<T>> validateTimed(T entity) {
+        int phase = CrudXRequestTiming.enter(CrudXPhase.VALIDATE);
+        try {
+            return validator.validate(entity);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
     private int calculateOptimalBatchSize(int totalSize) {
         if (totalSize <= 1000) return BATCH_SIZE_SMALL;
         if (totalSize <= 10_000) return BATCH_SIZE_MEDIUM;
@@ -564,9 +606,10 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
                 update.set(key, value);
             }
         });
-        update.set("audit.updatedAt", entity.getAudit().getUpdatedAt());
+        update.set(UPDATED_AT_FIELD, entity.getAudit().getUpdatedAt());
 
         mongoTemplate.updateFirst(query, update, entityClass);
+        invalidateCaches(List.of(id));
         return findById(id);
     }
 
@@ -624,6 +667,7 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
         if (entity == null) {
             throw new EntityNotFoundException(getEntityClassName(), id);
         }
+        invalidateCaches(List.of(id));
         return entity;
     }
 
@@ -637,6 +681,10 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
         for (int i = 0; i < ids.size(); i += batchSize) {
             int end = Math.min(i + batchSize, ids.size());
             List<ID> batch = ids.subList(i, end);
+            CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+            chunkEvent.begin();
+            int chunkDeletedStart = deleted;
+            int chunkNotFoundStart = notFound;
 
             Query findQuery = Query.query(Criteria.where("_id").in(batch));
             List<T> found = mongoTemplate.find(findQuery, entityClass);
@@ -656,7 +704,10 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
             if (!foundIds.isEmpty()) {
                 Query deleteQuery = Query.query(Criteria.where("_id").in(foundIds));
                 mongoTemplate.remove(deleteQuery, entityClass);
+                invalidateCaches(foundIds);
             }
+            chunkEvent.complete(getEntityClassName(), CrudXOperation.BATCH_DELETE.name(), CrudXBatchChunkEvent.STAGE_DELETE,
+                    i / batchSize + 1, batch.size(), deleted - chunkDeletedStart, notFound - chunkNotFoundStart, 0);
         }
 
         BatchResult<T> result = new BatchResult<>();
@@ -668,6 +719,30 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
 
     // ==================== UTILITY METHODS ====================
 
+    /**
+     * Evicts cached query results and the given rows of this entity, on this node and (after
+     * commit) on every other node; no-op when caching is off
+     *
+     * @param ids updated or deleted rows
+     */
+    protected void invalidateCaches(Collection<?> ids) {
+        if (cacheInvalidator != null) {
+            cacheInvalidator.invalidate(entityClass, ids);
+        }
+    }
+
+    /**
+     * Evicts cached query results and the "not found" entries of inserted rows, like
+     * {@link #invalidateCaches(Collection)}
+     *
+     * @param ids inserted rows, or {@code null} when not known (drops every "not found" entry)
+     */
+    protected void invalidateInsertedCaches(Collection<?> ids) {
+        if (cacheInvalidator != null) {
+            cacheInvalidator.inserted(entityClass, ids);
+        }
+    }
+
     @Override
     public long count() {
         return mongoTemplate.count(new Query(), entityClass);
@@ -678,6 +753,21 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
         return mongoTemplate.exists(Query.query(Criteria.where("_id").is(id)), entityClass);
     }
 
+    @Override
+    public LocalDateTime findLastModified(ID id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include(UPDATED_AT_FIELD);
+        return CrudXAudit.lastModified(mongoTemplate.findOne(query, entityClass));
+    }
+
+    @Override
+    public CrudXCollectionVersion findCollectionVersion() {
+        Query latest = new Query().with(Sort.by(Sort.Direction.DESC, UPDATED_AT_FIELD)).limit(1);
+        latest.fields().include(UPDATED_AT_FIELD);
+        T newest = mongoTemplate.findOne(latest, entityClass);
+        return new CrudXCollectionVersion(count(), CrudXAudit.lastModified(newest));
+    }
+
     /**
      * Auto-validate updates using annotations and DB checks
      */
@@ -718,7 +808,7 @@ public abstract class CrudXMongoService<T extends CrudXMongoEntity<ID>, ID exten
 
             // 4. Jakarta Bean Validation
             if (validator != null) {
-                Set<ConstraintViolation<T>> violations = validator.validate(entity);
+                Set<ConstraintViolation<T>> violations = validateTimed(entity);
                 if (!violations.isEmpty()) {
                     String errors = violations.stream()
                             .map(v -> v.getPropertyPath() + ": " + v.getMessage())
@@ -3,17 +3,30 @@ package io.github.sachinnimbal.crudx.service.impl;
 import io.github.sachinnimbal.crudx.core.annotations.CrudXImmutable;
 import io.github.sachinnimbal.crudx.core.annotations.CrudXUniqueConstraint;
 import io.github.sachinnimbal.crudx.core.annotations.CrudXUniqueConstraints;
+import io.github.sachinnimbal.crudx.core.cache.CrudXCacheInvalidator;
 import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
 import io.github.sachinnimbal.crudx.core.exception.DuplicateEntityException;
 import io.github.sachinnimbal.crudx.core.exception.EntityNotFoundException;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXBatchChunkEvent;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXDuplicateCheckEvent;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.model.CrudXAudit;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
+import io.github.sachinnimbal.crudx.core.model.CrudXCollectionVersion;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import io.github.sachinnimbal.crudx.service.CrudXService;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Subgraph;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +44,7 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -50,12 +64,16 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
     @Autowired
     protected CrudXProperties crudxProperties;
 
+    @Autowired(required = false)
+    protected CrudXCacheInvalidator cacheInvalidator;
+
     private static final int MAX_IN_MEMORY_THRESHOLD = 5000;
     private static final int BATCH_SIZE_SMALL = 200;
     private static final int BATCH_SIZE_MEDIUM = 500;
     private static final int BATCH_SIZE_LARGE = 1000;
     private static final int BATCH_SIZE_X_LARGE = 2000;
     private static final int BATCH_SIZE_MAX = 5000;
+    private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
 
     @PostConstruct
     @SuppressWarnings("unchecked")
@@ -93,6 +111,7 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         validateUniqueConstraints(entity);
         entityManager.persist(entity);
         entityManager.flush();
+        invalidateInsertedCaches(List.of(entity.getId()));
 
         log.info("Entity created: {} in {} ms", entity.getId(), System.currentTimeMillis() - start);
         return entity;
@@ -109,6 +128,9 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
         int batchSize = calculateOptimalBatchSize(totalSize);
 
+        // Up front, so the timeout exit is covered too; the eviction on commit is the one that counts
+        invalidateInsertedCaches(null);
+
         int successCount = 0;
         int skipCount = 0;
         int duplicateSkipCount = 0;
@@ -216,6 +238,11 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
             // Database Insert Phase
             if (!chunkEntities.isEmpty()) {
+                CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+                chunkEvent.begin();
+                int chunkSuccessStart = successCount;
+                int chunkSkipStart = skipCount;
+                int chunkDuplicateStart = duplicateSkipCount;
                 try {
                     for (T entity : chunkEntities) {
                         entityManager.persist(entity);
@@ -257,6 +284,9 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
                     skipCount += chunkEntities.size();
                     entityManager.clear();
                 }
+                chunkEvent.complete(getEntityClassName(), CrudXOperation.BATCH_CREATE.name(), CrudXBatchChunkEvent.STAGE_INSERT,
+                        batchNumber, chunkEntities.size(), successCount - chunkSuccessStart,
+                        skipCount - chunkSkipStart, duplicateSkipCount - chunkDuplicateStart);
             }
 
             chunkEntities.clear();
@@ -418,9 +448,12 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
             query.select(cb.count(root)).where(predicates.toArray(new Predicate[0]));
 
             TypedQuery<Long> typedQuery = entityManager.createQuery(query);
-            Long count = typedQuery.getSingleResult();
+            CrudXDuplicateCheckEvent event = new CrudXDuplicateCheckEvent();
+            event.begin();
+            boolean duplicate = typedQuery.getSingleResult() > 0;
+            event.complete(getEntityClassName(), constraint, duplicate);
 
-            return count > 0;
+            return duplicate;
 
         } catch (Exception e) {
             log.warn("Duplicate check failed: {}", e.getMessage());
@@ -483,7 +516,7 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
      */
     private void validateJakartaValidation(T entity) {
         if (validator != null) {
-            Set<ConstraintViolation<T>> violations = validator.validate(entity);
+            Set<ConstraintViolation<T>> violations = validateTimed(entity);
             if (!violations.isEmpty()) {
                 String errors = violations.stream()
                         .map(v -> v.getPropertyPath() + ": " + v.getMessage())
@@ -493,6 +526,18 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         }
     }
 
+    /**
+     * Bean Validation, attributed to the VALIDATE phase of the current request
+     */
+    private Set<ConstraintViolation<T>> validateTimed(T entity) {
+        int phase = CrudXRequestTiming.enter(CrudXPhase.VALIDATE);
+        try {
+            return validator.validate(entity);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
     private int calculateOptimalBatchSize(int totalSize) {
         if (totalSize <= 1000) return BATCH_SIZE_SMALL;
         if (totalSize <= 10_000) return BATCH_SIZE_MEDIUM;
@@ -668,6 +713,214 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         return new PageImpl<>(content, pageable, total);
     }
 
+    // ==================== FETCH-PLANNED READS ====================
+
+    @Override
+    @Transactional(readOnly = true)
+    public T findById(ID id, Set<String> fetchPaths) {
+        if (fetchPaths == null || fetchPaths.isEmpty()) {
+            return findById(id);
+        }
+
+        FetchPlan<T> plan = buildFetchPlan(fetchPaths);
+        T entity = entityManager.find(entityClass, id, Map.of(LOAD_GRAPH_HINT, plan.graph()));
+        if (entity == null) {
+            throw new EntityNotFoundException(getEntityClassName(), id);
+        }
+        fetchCollections(List.of(entity), plan.collectionAttributes());
+        return entity;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> findAll(Sort sort, Set<String> fetchPaths) {
+        boolean sorted = sort != null && sort.isSorted();
+        if (fetchPaths == null || fetchPaths.isEmpty()) {
+            return sorted ? findAll(sort) : findAll();
+        }
+
+        long totalCount = count();
+        if (totalCount > MAX_IN_MEMORY_THRESHOLD) {
+            // Streaming clears the persistence context per batch, so a fetch plan cannot survive it
+            log.warn("Large dataset ({} records) - ignoring expand paths {}", totalCount, fetchPaths);
+            return sorted ? findAll(sort) : findAll();
+        }
+
+        FetchPlan<T> plan = buildFetchPlan(fetchPaths);
+        List<T> content = entityManager.createQuery(createSortedQuery(sorted ? sort : Sort.unsorted()))
+                .setHint(LOAD_GRAPH_HINT, plan.graph())
+                .getResultList();
+
+        fetchCollections(content, plan.collectionAttributes());
+        return content;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> findAll(Pageable pageable, Set<String> fetchPaths) {
+        if (fetchPaths == null || fetchPaths.isEmpty()) {
+            return findAll(pageable);
+        }
+
+        FetchPlan<T> plan = buildFetchPlan(fetchPaths);
+        List<T> content = entityManager.createQuery(createSortedQuery(pageable.getSort()))
+                .setHint(LOAD_GRAPH_HINT, plan.graph())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        fetchCollections(content, plan.collectionAttributes());
+
+        long total = count();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private CriteriaQuery<T> createSortedQuery(Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root);
+
+        if (sort.isSorted()) {
+            List<Order> orders = new ArrayList<>();
+            sort.forEach(order -> {
+                orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty()))
+                        : cb.desc(root.get(order.getProperty())));
+            });
+            query.orderBy(orders);
+        }
+        return query;
+    }
+
+    /**
+     * Splits fetch paths into a load graph for to-one chains and a set of root collections,
+     * each with the to-one chains hanging off its elements. Collections are kept out of the
+     * graph: joining them would multiply rows and force Hibernate to paginate in memory
+     * (or fail with multiple bags).
+     */
+    private FetchPlan<T> buildFetchPlan(Set<String> fetchPaths) {
+        EntityGraph<T> graph = entityManager.createEntityGraph(entityClass);
+        Map<String, Set<String>> collectionAttributes = new LinkedHashMap<>();
+
+        for (String path : fetchPaths) {
+            ManagedType<?> type = entityManager.getMetamodel().managedType(entityClass);
+            Subgraph<?> subgraph = null;
+            String[] segments = path.split("\\.");
+
+            for (int i = 0; i < segments.length; i++) {
+                Attribute<?, ?> attribute = findAttribute(type, segments[i]);
+                if (attribute == null) {
+                    log.debug("Ignoring unknown fetch path '{}' on {}", path, getEntityClassName());
+                    break;
+                }
+                if (attribute.isCollection()) {
+                    if (i == 0) {
+                        Set<String> elementPaths = collectionAttributes
+                                .computeIfAbsent(segments[i], k -> new LinkedHashSet<>());
+                        String elementPath = toOneChain(attribute, segments, i + 1);
+                        if (!elementPath.isEmpty()) {
+                            elementPaths.add(elementPath);
+                        }
+                    }
+                    break; // Collections below the root load lazily (batch fetching applies)
+                }
+                if (!attribute.isAssociation()) {
+                    break;
+                }
+
+                subgraph = subgraph == null
+                        ? graph.addSubgraph(segments[i])
+                        : subgraph.addSubgraph(segments[i]);
+                type = entityManager.getMetamodel().managedType(attribute.getJavaType());
+            }
+        }
+
+        return new FetchPlan<>(graph, collectionAttributes);
+    }
+
+    /**
+     * Returns the longest to-one chain (dotted) starting at {@code from} within the element
+     * type of a collection attribute
+     */
+    private String toOneChain(Attribute<?, ?> collection, String[] segments, int from) {
+        if (!(collection instanceof PluralAttribute<?, ?, ?> plural)
+                || !(plural.getElementType() instanceof ManagedType<?> type)) {
+            return "";
+        }
+
+        StringBuilder chain = new StringBuilder();
+        for (int i = from; i < segments.length; i++) {
+            Attribute<?, ?> attribute = findAttribute(type, segments[i]);
+            if (attribute == null || attribute.isCollection() || !attribute.isAssociation()) {
+                break;
+            }
+            if (!chain.isEmpty()) {
+                chain.append('.');
+            }
+            chain.append(segments[i]);
+            type = entityManager.getMetamodel().managedType(attribute.getJavaType());
+        }
+        return chain.toString();
+    }
+
+    private Attribute<?, ?> findAttribute(ManagedType<?> type, String name) {
+        try {
+            return type.getAttribute(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Initializes root collections with one join-fetch query per attribute and chunk; to-one
+     * associations of the collection elements are joined in the same query. Roots are already
+     * managed, so the fetched collections attach to them in place.
+     */
+    private void fetchCollections(List<T> roots, Map<String, Set<String>> collectionAttributes) {
+        if (roots.isEmpty() || collectionAttributes.isEmpty()) {
+            return;
+        }
+
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        for (Map.Entry<String, Set<String>> entry : collectionAttributes.entrySet()) {
+            String jpql = buildCollectionFetchQuery(entityName, entry.getKey(), entry.getValue());
+            for (int i = 0; i < roots.size(); i += BATCH_SIZE_LARGE) {
+                List<T> chunk = roots.subList(i, Math.min(i + BATCH_SIZE_LARGE, roots.size()));
+                entityManager.createQuery(jpql, entityClass)
+                        .setParameter("roots", chunk)
+                        .getResultList();
+            }
+        }
+    }
+
+    private String buildCollectionFetchQuery(String entityName, String attribute, Set<String> elementPaths) {
+        StringBuilder jpql = new StringBuilder("SELECT DISTINCT e FROM ")
+                .append(entityName).append(" e LEFT JOIN FETCH e.").append(attribute).append(" c");
+
+        // Share joins between chains with a common prefix (items.product, items.product.vendor)
+        Map<String, String> aliases = new HashMap<>();
+        for (String elementPath : elementPaths) {
+            String parentAlias = "c";
+            String prefix = "";
+            for (String segment : elementPath.split("\\.")) {
+                prefix = prefix.isEmpty() ? segment : prefix + "." + segment;
+                String alias = aliases.get(prefix);
+                if (alias == null) {
+                    alias = "j" + aliases.size();
+                    aliases.put(prefix, alias);
+                    jpql.append(" LEFT JOIN FETCH ").append(parentAlias).append('.').append(segment)
+                            .append(' ').append(alias);
+                }
+                parentAlias = alias;
+            }
+        }
+
+        return jpql.append(" WHERE e IN :roots").toString();
+    }
+
+    private record FetchPlan<E>(EntityGraph<E> graph, Map<String, Set<String>> collectionAttributes) {
+    }
+
     // ==================== UPDATE OPERATIONS ====================
 
     @Override
@@ -700,6 +953,7 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
         entityManager.merge(entity);
         entityManager.flush();
+        invalidateCaches(List.of(id));
         return entity;
     }
 
@@ -755,6 +1009,7 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         T entity = findById(id);
         entityManager.remove(entity);
         entityManager.flush();
+        invalidateCaches(List.of(id));
         return entity;
     }
 
@@ -764,16 +1019,22 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         int deleted = 0;
         int notFound = 0;
         List<String> skipReasons = new ArrayList<>();
+        List<ID> deletedIds = new ArrayList<>();
 
         for (int i = 0; i < ids.size(); i += batchSize) {
             int end = Math.min(i + batchSize, ids.size());
             List<ID> batch = ids.subList(i, end);
+            CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+            chunkEvent.begin();
+            int chunkDeletedStart = deleted;
+            int chunkNotFoundStart = notFound;
 
             for (ID id : batch) {
                 try {
                     T entity = entityManager.find(entityClass, id);
                     if (entity != null) {
                         entityManager.remove(entity);
+                        deletedIds.add(id);
                         deleted++;
                     } else {
                         notFound++;
@@ -791,6 +1052,11 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
             entityManager.flush();
             entityManager.clear();
+            chunkEvent.complete(getEntityClassName(), CrudXOperation.BATCH_DELETE.name(), CrudXBatchChunkEvent.STAGE_DELETE,
+                    i / batchSize + 1, batch.size(), deleted - chunkDeletedStart, notFound - chunkNotFoundStart, 0);
+        }
+        if (deleted > 0) {
+            invalidateCaches(deletedIds);
         }
 
         BatchResult<T> result = new BatchResult<>();
@@ -802,6 +1068,30 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
     // ==================== UTILITY METHODS ====================
 
+    /**
+     * Evicts cached query results and the given rows of this entity, on this node and (after
+     * commit) on every other node; no-op when caching is off
+     *
+     * @param ids updated or deleted rows
+     */
+    protected void invalidateCaches(Collection<?> ids) {
+        if (cacheInvalidator != null) {
+            cacheInvalidator.invalidate(entityClass, ids);
+        }
+    }
+
+    /**
+     * Evicts cached query results and the "not found" entries of inserted rows, like
+     * {@link #invalidateCaches(Collection)}
+     *
+     * @param ids inserted rows, or {@code null} when not known (drops every "not found" entry)
+     */
+    protected void invalidateInsertedCaches(Collection<?> ids) {
+        if (cacheInvalidator != null) {
+            cacheInvalidator.inserted(entityClass, ids);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long count() {
@@ -817,6 +1107,36 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
         return entityManager.find(entityClass, id) != null;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastModified(ID id) {
+        if (!CrudXAudit.isAudited(entityClass)) {
+            return null;
+        }
+        // Scalar projection: no entity instance, no persistence context entry
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LocalDateTime> query = cb.createQuery(LocalDateTime.class);
+        Root<T> root = query.from(entityClass);
+        query.select(root.get("audit").<LocalDateTime>get("updatedAt"))
+                .where(cb.equal(root.get("id"), id));
+        List<LocalDateTime> result = entityManager.createQuery(query).setMaxResults(1).getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CrudXCollectionVersion findCollectionVersion() {
+        if (!CrudXAudit.isAudited(entityClass)) {
+            return null;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<T> root = query.from(entityClass);
+        query.multiselect(cb.count(root), cb.greatest(root.get("audit").<LocalDateTime>get("updatedAt")));
+        Object[] result = entityManager.createQuery(query).getSingleResult();
+        return new CrudXCollectionVersion((Long) result[0], (LocalDateTime) result[1]);
+    }
+
     /**
      * Auto-validate updates using annotations and DB checks
      */
@@ -856,7 +1176,7 @@ public abstract class CrudXSQLService<T extends CrudXBaseEntity<ID>, ID extends
 
             // 4. Jakarta Bean Validation
             if (validator != null) {
-                Set<ConstraintViolation<T>> violations = validator.validate(entity);
+                Set<ConstraintViolation<T>> violations = validateTimed(entity);
                 if (!violations.isEmpty()) {
                     String errors = violations.stream()
                             .map(v -> v.getPropertyPath() + ": " + v.getMessage())
@@ -1,10 +1,26 @@
 package io.github.sachinnimbal.crudx.web;
 
+import io.github.sachinnimbal.crudx.core.cache.CrudXEntityCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXEntityCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXNegativeCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXNegativeCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXQueryCache;
+import io.github.sachinnimbal.crudx.core.cache.CrudXQueryCacheManager;
+import io.github.sachinnimbal.crudx.core.cache.CrudXSingleFlight;
 import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
 import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperGenerator;
 import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperRegistry;
+import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
 import io.github.sachinnimbal.crudx.core.exception.DuplicateEntityException;
+import io.github.sachinnimbal.crudx.core.exception.CrudXErrorLogLimiter;
+import io.github.sachinnimbal.crudx.core.exception.CrudXValidationException;
+import io.github.sachinnimbal.crudx.core.exception.EntityNotFoundException;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.model.CrudXAudit;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
+import io.github.sachinnimbal.crudx.core.model.CrudXCollectionVersion;
 import io.github.sachinnimbal.crudx.core.response.ApiResponse;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import io.github.sachinnimbal.crudx.core.response.PageResponse;
@@ -18,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,9 +43,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.github.sachinnimbal.crudx.core.enums.CrudXOperation.*;
@@ -53,6 +74,18 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
     @Autowired
     protected CrudXProperties crudxProperties;
 
+    @Autowired(required = false)
+    protected CrudXMetricsPublisher metricsPublisher;
+
+    @Autowired(required = false)
+    protected CrudXQueryCacheManager queryCacheManager;
+
+    @Autowired(required = false)
+    protected CrudXEntityCacheManager entityCacheManager;
+
+    @Autowired(required = false)
+    protected CrudXNegativeCacheManager negativeCacheManager;
+
     protected CrudXService<T, ID> crudService;
 
     // Component delegates
@@ -60,6 +93,12 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
     private CrudXDTOConverter<T, ID> dtoConverter;
     private CrudXValidationHelper<T, ID> validationHelper;
     private CrudXBatchProcessor<T, ID> batchProcessor;
+    private CrudXQueryCache queryCache;
+    private CrudXEntityCache entityCache;
+    private CrudXNegativeCache negativeCache;
+    private CrudXSingleFlight<ReadKey> readFlights;
+    private CrudXConditionalRequests conditionalRequests;
+    private CrudXErrorLogLimiter errorLogLimiter;
 
     private static final int LARGE_DATASET_THRESHOLD = 1000;
     private static final int DEFAULT_PAGE_SIZE = 50;
@@ -78,12 +117,34 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         // Initialize service
         initializeCrudService();
 
+        errorLogLimiter = new CrudXErrorLogLimiter(crudxProperties.getErrorLogsPerMinute(), Duration.ofMinutes(1));
+
+        // Result caches (crudx.cache.*); writes in the service invalidate them
+        if (queryCacheManager != null) {
+            queryCache = queryCacheManager.forEntity(helper.getEntityClass());
+        }
+        if (entityCacheManager != null) {
+            entityCache = entityCacheManager.forEntity(helper.getEntityClass());
+        }
+        if (negativeCacheManager != null) {
+            negativeCache = negativeCacheManager.forEntity(helper.getEntityClass());
+        }
+        if (crudxProperties.getCache().isCoalesceReads()) {
+            readFlights = new CrudXSingleFlight<>();
+        }
+        if (crudxProperties.getCache().isEtagEnabled()) {
+            conditionalRequests = new CrudXConditionalRequests(helper.getEntityClass(),
+                    crudxProperties.getCache().isPageEtagEnabled());
+        }
+
         // Initialize DTO converter
         dtoConverter = new CrudXDTOConverter<>(
                 helper.getEntityClass(),
                 dtoRegistry,
-                mapperGenerator
+                mapperGenerator,
+                crudxProperties.getDto().getParallelThreshold()
         );
+        dtoConverter.setMetricsPublisher(metricsPublisher);
 
         // Initialize mapper (compiled or runtime)
         if (crudxProperties.getDto().isEnabled()) {
@@ -182,7 +243,13 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             validationHelper.validateRequiredFields(entity);
 
             beforeCreate(entity);
-            T created = crudService.create(entity);
+            T created;
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                created = crudService.create(entity);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             afterCreate(created);
 
             long executionTime = System.currentTimeMillis() - startTime;
@@ -194,14 +261,8 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                     .body(ApiResponse.success(response, "Entity created successfully",
                             HttpStatus.CREATED, executionTime));
 
-        } catch (DuplicateEntityException e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error creating entity: {} | Time: {} ms", e.getMessage(), executionTime);
-            throw e; // Re-throw without wrapping
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error creating entity: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to create entity: " + e.getMessage(), e);
+            throw failure("Failed to create entity", e, startTime);
         }
     }
 
@@ -249,6 +310,9 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                     ? result.getSkipReasons().subList(0, Math.min(10, result.getSkipReasons().size()))
                     : null;
 
+            publishBatchMetrics(BATCH_CREATE, result.getSuccessCount(), result.getSkipCount(),
+                    result.getDuplicateCount(), result.getValidationFailCount());
+
             log.info("✅ Batch completed: {} | {} ms", message, result.getDuration());
 
             // 🔥 Use enhanced batch response
@@ -264,76 +328,78 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                     ));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Batch creation error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to create batch: " + e.getMessage(), e);
+            throw failure("Failed to create batch", e, startTime);
         }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<?>> getById(@PathVariable ID id) {
+    public ResponseEntity<ApiResponse<?>> getById(
+            @PathVariable ID id,
+            @RequestParam(required = false) String expand) {
         long startTime = System.currentTimeMillis();
         validationHelper.validateId(id);
 
         try {
-            T entity = crudService.findById(id);
-            afterFindById(entity);
+            Set<String> expansions = helper.parseExpand(expand);
+
+            // Conditional GET: answer 304 from the version probe, before loading anything
+            if (conditionalRequests != null && conditionalRequests.isConditional()) {
+                LocalDateTime lastModified = probe(() -> crudService.findLastModified(id));
+                if (lastModified != null) {
+                    String etag = conditionalRequests.entityTag(id, lastModified, expansions);
+                    if (conditionalRequests.isNotModified(etag, lastModified)) {
+                        return conditionalRequests.notModified(etag, lastModified);
+                    }
+                }
+            }
 
+            ReadResult result = coalesce(GET_ID, id, expansions, () -> {
+                Set<String> fetchPaths = dtoConverter.resolveFetchPaths(expansions, GET_ID);
+                T entity;
+                int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+                try {
+                    entity = findEntity(id, fetchPaths);
+                } finally {
+                    CrudXRequestTiming.exit(phase);
+                }
+                afterFindById(entity);
+
+                Object response = dtoConverter.convertEntityToResponse(entity, GET_ID, expansions);
+                return new ReadResult(response, "Entity retrieved successfully", CrudXAudit.lastModified(entity));
+            });
             long executionTime = System.currentTimeMillis() - startTime;
-            Object response = dtoConverter.convertEntityToResponse(entity, GET_ID);
 
-            return ResponseEntity.ok(ApiResponse.success(response,
-                    "Entity retrieved successfully", executionTime));
+            ResponseEntity.BodyBuilder ok = conditionalRequests != null && result.lastModified() != null
+                    ? conditionalRequests.ok(conditionalRequests.entityTag(id, result.lastModified(), expansions),
+                    result.lastModified())
+                    : ResponseEntity.ok();
+            return ok.body(ApiResponse.success(result.response(), result.message(), executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error fetching entity {}: {} | Time: {} ms", id, e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to retrieve entity: " + e.getMessage(), e);
+            throw failure("Failed to retrieve entity", e, startTime);
         }
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<?>> getAll(
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false, defaultValue = "ASC") String sortDirection) {
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String expand) {
 
         long startTime = System.currentTimeMillis();
 
         try {
-            long totalCount = crudService.count();
-
-            if (totalCount > LARGE_DATASET_THRESHOLD) {
-                log.warn("Large dataset ({} records) - auto-switching to pagination", totalCount);
-
-                Pageable pageable = validationHelper.createPageable(0, DEFAULT_PAGE_SIZE, sortBy, sortDirection);
-                Page<T> springPage = crudService.findAll(pageable);
-                PageResponse<T> pageResponse = PageResponse.from(springPage);
-                afterFindPaged(pageResponse);
-
-                long executionTime = System.currentTimeMillis() - startTime;
-                Object response = dtoConverter.convertPageResponseToDTO(pageResponse, GET_PAGED);
-
-                return ResponseEntity.ok(ApiResponse.success(response,
-                        helper.formatLargeDatasetWarning(totalCount, pageResponse.getContent().size()),
-                        executionTime));
-            }
-
-            List<T> entities = sortBy != null ?
-                    crudService.findAll(Sort.by(Sort.Direction.fromString(sortDirection), sortBy)) :
-                    crudService.findAll();
-
-            afterFindAll(entities);
-
+            Set<String> expansions = helper.parseExpand(expand);
+            Sort sort = sortBy != null ?
+                    Sort.by(parseSortDirection(sortDirection), sortBy) :
+                    Sort.unsorted();
+            ReadResult result = coalesce(GET_ALL, sort, expansions, () -> readAll(sortBy, sortDirection, sort, expansions));
             long executionTime = System.currentTimeMillis() - startTime;
-            Object response = dtoConverter.convertEntitiesToResponse(entities, GET_ALL);
 
-            return ResponseEntity.ok(ApiResponse.success(response,
-                    helper.formatListMessage(entities.size()), executionTime));
+            return ResponseEntity.ok(ApiResponse.success(result.response(), result.message(), executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error fetching all: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to retrieve entities: " + e.getMessage(), e);
+            throw failure("Failed to retrieve entities", e, startTime);
         }
     }
 
@@ -342,28 +408,54 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false, defaultValue = "ASC") String sortDirection) {
+            @RequestParam(required = false, defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String expand) {
 
         long startTime = System.currentTimeMillis();
 
         try {
+            Set<String> expansions = helper.parseExpand(expand);
             Pageable pageable = validationHelper.createPageable(page, size, sortBy, sortDirection);
-            Page<T> springPage = crudService.findAll(pageable);
-            PageResponse<T> pageResponse = PageResponse.from(springPage);
-            afterFindPaged(pageResponse);
 
+            // Page validators come from a probe taken before the read, so a concurrent write can
+            // only make the tag older than the content (a spurious 200, never a stale 304)
+            String etag = null;
+            CrudXCollectionVersion version = null;
+            if (conditionalRequests != null && conditionalRequests.isPageTagsEnabled()) {
+                version = probe(crudService::findCollectionVersion);
+                if (version != null) {
+                    etag = conditionalRequests.pageTag(pageable, expansions, version);
+                    if (conditionalRequests.isNotModified(etag, version.lastModified())) {
+                        return conditionalRequests.notModified(etag, version.lastModified());
+                    }
+                }
+            }
+
+            ReadResult result = coalesce(GET_PAGED, pageable, expansions, () -> {
+                Set<String> fetchPaths = dtoConverter.resolveFetchPaths(expansions, GET_PAGED);
+                Page<T> springPage;
+                int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+                try {
+                    springPage = findPage(pageable, fetchPaths);
+                } finally {
+                    CrudXRequestTiming.exit(phase);
+                }
+                PageResponse<T> pageResponse = PageResponse.from(springPage);
+                afterFindPaged(pageResponse);
+
+                Object response = dtoConverter.convertPageResponseToDTO(pageResponse, GET_PAGED, expansions);
+                return new ReadResult(response, helper.formatPageMessage(page, pageResponse.getContent().size(),
+                        pageResponse.getTotalElements()), null);
+            });
             long executionTime = System.currentTimeMillis() - startTime;
-            Object response = dtoConverter.convertPageResponseToDTO(pageResponse, GET_PAGED);
 
-            return ResponseEntity.ok(ApiResponse.success(response,
-                    helper.formatPageMessage(page, pageResponse.getContent().size(),
-                            pageResponse.getTotalElements()),
-                    executionTime));
+            ResponseEntity.BodyBuilder ok = etag != null
+                    ? conditionalRequests.ok(etag, version.lastModified())
+                    : ResponseEntity.ok();
+            return ok.body(ApiResponse.success(result.response(), result.message(), executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error fetching page: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to retrieve paged data: " + e.getMessage(), e);
+            throw failure("Failed to retrieve paged data", e, startTime);
         }
     }
 
@@ -378,7 +470,13 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         try {
             validationHelper.validateUpdates(updates);
 
-            T existingEntity = crudService.findById(id);
+            T existingEntity;
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                existingEntity = crudService.findById(id);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             beforeUpdate(id, updates, existingEntity);
             T oldEntity = helper.cloneEntity(existingEntity);
 
@@ -387,7 +485,13 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                 validationHelper.validateRequiredFields(requestDto);
             }
 
-            T updated = crudService.update(id, updates);
+            T updated;
+            phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                updated = crudService.update(id, updates);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             afterUpdate(updated, oldEntity);
 
             long executionTime = System.currentTimeMillis() - startTime;
@@ -397,9 +501,7 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                     "Entity updated successfully", executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Error updating {}: {} | Time: {} ms", id, e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to update entity: " + e.getMessage(), e);
+            throw failure("Failed to update entity", e, startTime);
         }
     }
 
@@ -430,15 +532,16 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
                     result.getTotalProcessed()
             );
 
+            publishBatchMetrics(BATCH_UPDATE, result.getCreatedEntities().size(), result.getSkippedCount(),
+                    result.getDuplicateSkipCount(), result.getValidationSkipCount());
+
             log.info("✅ Batch update: {} | {} ms", message, executionTime);
 
             return ResponseEntity.status(status)
                     .body(ApiResponse.success(responseData, message, status, executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Batch update error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to update batch: " + e.getMessage(), e);
+            throw failure("Failed to update batch", e, startTime);
         }
     }
 
@@ -447,15 +550,19 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         long startTime = System.currentTimeMillis();
 
         try {
-            long count = crudService.count();
+            long count;
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                count = countEntities();
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             long executionTime = System.currentTimeMillis() - startTime;
 
             return ResponseEntity.ok(ApiResponse.success(count,
                     helper.formatCountMessage(count), executionTime));
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Count error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to count entities: " + e.getMessage(), e);
+            throw failure("Failed to count entities", e, startTime);
         }
     }
 
@@ -465,15 +572,19 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         validationHelper.validateId(id);
 
         try {
-            boolean exists = crudService.existsById(id);
+            boolean exists;
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                exists = existsEntity(id);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             long executionTime = System.currentTimeMillis() - startTime;
 
             return ResponseEntity.ok(ApiResponse.success(exists,
                     helper.formatExistsMessage(id, exists), executionTime));
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Exists check error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to check entity existence: " + e.getMessage(), e);
+            throw failure("Failed to check entity existence", e, startTime);
         }
     }
 
@@ -483,7 +594,13 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         validationHelper.validateId(id);
 
         try {
-            T deletedEntity = crudService.delete(id);
+            T deletedEntity;
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                deletedEntity = crudService.delete(id);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
             beforeDelete(id, deletedEntity);
             afterDelete(id, deletedEntity);
 
@@ -492,9 +609,7 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             return ResponseEntity.ok(ApiResponse.success(null,
                     "Entity deleted successfully", executionTime));
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Delete error {}: {} | Time: {} ms", id, e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to delete entity: " + e.getMessage(), e);
+            throw failure("Failed to delete entity", e, startTime);
         }
     }
 
@@ -517,6 +632,7 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             result.setSkippedReasons(deletionResult.getSkippedReasons());
 
             long executionTime = System.currentTimeMillis() - startTime;
+            publishBatchMetrics(BATCH_DELETE, deletedIds.size(), result.getSkippedCount(), null, null);
 
             String message = helper.formatBatchMessage(
                     result.getCreatedEntities().size(),
@@ -527,9 +643,7 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             return ResponseEntity.ok(ApiResponse.success(result, message, executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Batch delete error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to delete batch: " + e.getMessage(), e);
+            throw failure("Failed to delete batch", e, startTime);
         }
     }
 
@@ -544,15 +658,14 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
             int totalDeleted = batchProcessor.processForceDelete(ids, crudxProperties.getBatchSize());
 
             long executionTime = System.currentTimeMillis() - startTime;
+            publishBatchMetrics(BATCH_DELETE, totalDeleted, 0, null, null);
 
             return ResponseEntity.ok(ApiResponse.success(null,
                     String.format("%d IDs processed for deletion", totalDeleted),
                     executionTime));
 
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.error("Force delete error: {} | Time: {} ms", e.getMessage(), executionTime, e);
-            throw new RuntimeException("Failed to force delete batch: " + e.getMessage(), e);
+            throw failure("Failed to force delete batch", e, startTime);
         }
     }
 
@@ -596,6 +709,190 @@ public abstract class CrudXController<T extends CrudXBaseEntity<ID>, ID extends
         return dtoConverter.getMapperMode().name();
     }
 
+    // ==================== CACHED READS ====================
+
+    private ReadResult readAll(String sortBy, String sortDirection, Sort sort, Set<String> expansions) {
+        long totalCount;
+        int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            totalCount = countEntities();
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+
+        if (totalCount > LARGE_DATASET_THRESHOLD) {
+            log.warn("Large dataset ({} records) - auto-switching to pagination", totalCount);
+
+            Pageable pageable = validationHelper.createPageable(0, DEFAULT_PAGE_SIZE, sortBy, sortDirection);
+            Set<String> fetchPaths = dtoConverter.resolveFetchPaths(expansions, GET_PAGED);
+            Page<T> springPage;
+            phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                springPage = findPage(pageable, fetchPaths);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
+            PageResponse<T> pageResponse = PageResponse.from(springPage);
+            afterFindPaged(pageResponse);
+
+            Object response = dtoConverter.convertPageResponseToDTO(pageResponse, GET_PAGED, expansions);
+            return new ReadResult(response,
+                    helper.formatLargeDatasetWarning(totalCount, pageResponse.getContent().size()), null);
+        }
+
+        Set<String> fetchPaths = dtoConverter.resolveFetchPaths(expansions, GET_ALL);
+        List<T> entities;
+        phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            entities = findList(sort, fetchPaths);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+
+        afterFindAll(entities);
+
+        Object response = dtoConverter.convertEntitiesToResponse(entities, GET_ALL, expansions);
+        return new ReadResult(response, helper.formatListMessage(entities.size()), null);
+    }
+
+    /**
+     * Runs a version probe (conditional GET) as DB time
+     */
+    private <R> R probe(Supplier<R> versionProbe) {
+        int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            return versionProbe.get();
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    /**
+     * Exception to rethrow from a failed endpoint. Expected failures (not found, duplicate,
+     * input rejected by CrudX validation, constraint violation) are rethrown as they are, unlogged, for
+     * CrudXGlobalExceptionHandler to answer with a 4xx; anything else is logged with its stack
+     * trace (rate-limited, crudx.error-logs-per-minute) and wrapped.
+     */
+    private RuntimeException failure(String message, Exception e, long startTime) {
+        if (isExpectedFailure(e)) {
+            return (RuntimeException) e;
+        }
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        long suppressed = errorLogLimiter.acquire();
+        if (suppressed != CrudXErrorLogLimiter.SUPPRESSED) {
+            if (suppressed > 0) {
+                log.warn("⚠️  {} further {} errors were not logged (crudx.error-logs-per-minute)",
+                        suppressed, getClass().getSimpleName());
+            }
+            log.error("{}: {} | Time: {} ms", message, e.getMessage(), executionTime, e);
+        }
+        return new RuntimeException(message + ": " + e.getMessage(), e);
+    }
+
+    private static boolean isExpectedFailure(Exception e) {
+        return e instanceof EntityNotFoundException
+                || e instanceof DuplicateEntityException
+                || e instanceof CrudXValidationException
+                || e instanceof DataIntegrityViolationException;
+    }
+
+    private static Sort.Direction parseSortDirection(String sortDirection) {
+        try {
+            return Sort.Direction.fromString(sortDirection);
+        } catch (IllegalArgumentException e) {
+            throw new CrudXValidationException(
+                    "Invalid sort direction '" + sortDirection + "'. Use ASC or DESC", e);
+        }
+    }
+
+    /**
+     * Runs {@code read}, or waits for the identical read another request already has in flight
+     * (crudx.cache.coalesce-reads); waiting counts as DB time
+     */
+    private <R> R coalesce(CrudXOperation operation, Object target, Set<String> expansions, Supplier<R> read) {
+        if (readFlights == null) {
+            return read.get();
+        }
+        int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            return readFlights.execute(new ReadKey(operation, target, expansions), read);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    private T findEntity(ID id, Set<String> fetchPaths) {
+        if (negativeCache == null) {
+            return loadEntity(id, fetchPaths);
+        }
+        if (negativeCache.isMissing(id)) {
+            throw new EntityNotFoundException(helper.getEntityClass().getSimpleName(), id);
+        }
+        long generation = negativeCache.getGeneration();
+        try {
+            return loadEntity(id, fetchPaths);
+        } catch (EntityNotFoundException e) {
+            negativeCache.recordMissing(id, generation);
+            throw e;
+        }
+    }
+
+    private T loadEntity(ID id, Set<String> fetchPaths) {
+        // Expanded reads load a different object graph; only plain reads go through the near-cache
+        return entityCache != null && (fetchPaths == null || fetchPaths.isEmpty())
+                ? entityCache.get(id, () -> crudService.findById(id))
+                : crudService.findById(id, fetchPaths);
+    }
+
+    private boolean existsEntity(ID id) {
+        if (negativeCache == null) {
+            return crudService.existsById(id);
+        }
+        if (negativeCache.isMissing(id)) {
+            return false;
+        }
+        long generation = negativeCache.getGeneration();
+        boolean exists = crudService.existsById(id);
+        if (!exists) {
+            negativeCache.recordMissing(id, generation);
+        }
+        return exists;
+    }
+
+    private long countEntities() {
+        return queryCache != null ? queryCache.count(crudService::count) : crudService.count();
+    }
+
+    private Page<T> findPage(Pageable pageable, Set<String> fetchPaths) {
+        return queryCache != null
+                ? queryCache.page(pageable, fetchPaths, () -> crudService.findAll(pageable, fetchPaths))
+                : crudService.findAll(pageable, fetchPaths);
+    }
+
+    private List<T> findList(Sort sort, Set<String> fetchPaths) {
+        return queryCache != null
+                ? queryCache.list(sort, fetchPaths, () -> crudService.findAll(sort, fetchPaths))
+                : crudService.findAll(sort, fetchPaths);
+    }
+
+    /**
+     * Identity of a coalescable read: operation, id/page/sort and requested expansions
+     */
+    private record ReadKey(CrudXOperation operation, Object target, Set<String> expansions) {
+    }
+
+    private record ReadResult(Object response, String message, LocalDateTime lastModified) {
+    }
+
+    private void publishBatchMetrics(CrudXOperation operation, long success, long skipped,
+                                     Integer duplicates, Integer validationFailures) {
+        if (metricsPublisher != null) {
+            metricsPublisher.recordBatch(helper.getEntityClass().getSimpleName(), operation,
+                    success, skipped, duplicates, validationFailures);
+        }
+    }
+
     private String buildBatchCreationMessage(int success, int skipped, int total,
                                              int duplicates, int validationFails) {
         if (skipped == 0) {
@@ -1,10 +1,12 @@
 package io.github.sachinnimbal.crudx.web;
 
 import io.github.sachinnimbal.crudx.core.config.CrudXProperties;
+import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperGenerator;
 import io.github.sachinnimbal.crudx.core.dto.metadata.CrudXDTOMetadataReader;
 import io.github.sachinnimbal.crudx.core.metrics.CrudXPerformanceTracker;
 import io.github.sachinnimbal.crudx.core.metrics.PerformanceMetric;
 import io.github.sachinnimbal.crudx.core.metrics.PerformanceSummary;
+import io.github.sachinnimbal.crudx.core.metrics.SlowRequest;
 import io.github.sachinnimbal.crudx.core.response.ApiResponse;
 import io.github.sachinnimbal.crudx.core.response.CrudxMetadataProperties;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -41,6 +43,8 @@ public class CrudXPerformanceController {
     private CrudxMetadataProperties metadataProperties;
     @Autowired(required = false)
     private CrudXDTOMetadataReader dtoMetadataReader;
+    @Autowired(required = false)
+    private CrudXMapperGenerator mapperGenerator;
 
     public CrudXPerformanceController(CrudXPerformanceTracker tracker, CrudXProperties properties) {
         this.tracker = tracker;
@@ -55,6 +59,7 @@ public class CrudXPerformanceController {
         Map<String, Object> dashboardData = new HashMap<>();
         dashboardData.put("summary", summary);
         dashboardData.put("metrics", metrics);
+        dashboardData.put("latency", tracker.getLatencySnapshots());
 
         if (dtoMetadataReader != null && dtoMetadataReader.isMetadataAvailable()) {
             Map<String, Object> dtoInfo = new HashMap<>();
@@ -77,10 +82,25 @@ public class CrudXPerformanceController {
             dashboardData.put("dtoMetadata", Map.of("available", false));
         }
 
+        if (mapperGenerator != null) {
+            dashboardData.put("mapperCache", Map.of(
+                    "available", true,
+                    "caches", mapperGenerator.getDetailedCacheStats()
+            ));
+        } else {
+            dashboardData.put("mapperCache", Map.of("available", false));
+        }
+
         return ResponseEntity.ok(ApiResponse.success(dashboardData,
                 "Dashboard data retrieved"));
     }
 
+    @GetMapping("/slow-requests")
+    public ResponseEntity<ApiResponse<List<SlowRequest>>> getSlowRequests() {
+        return ResponseEntity.ok(ApiResponse.success(tracker.getSlowRequests(),
+                "Slow requests retrieved"));
+    }
+
     @DeleteMapping("/metrics")
     public ResponseEntity<ApiResponse<Void>> clearMetrics() {
         tracker.clearMetrics();
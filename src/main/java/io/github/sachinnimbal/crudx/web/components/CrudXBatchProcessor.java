@@ -1,6 +1,10 @@
 package io.github.sachinnimbal.crudx.web.components;
 
 import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXBatchChunkEvent;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXStatementCapture;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import io.github.sachinnimbal.crudx.service.CrudXService;
@@ -23,6 +27,7 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
     private final CrudXDTOConverter<T, ID> dtoConverter;
     private final CrudXValidationHelper<T, ID> validationHelper;
     private final LifecycleCallbacks<T, ID> lifecycleCallbacks;
+    private final String entityName;
 
     public CrudXBatchProcessor(
             CrudXService<T, ID> crudService,
@@ -34,6 +39,7 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
         this.dtoConverter = dtoConverter;
         this.validationHelper = validationHelper;
         this.lifecycleCallbacks = lifecycleCallbacks;
+        this.entityName = dtoConverter.getEntityClass().getSimpleName();
     }
 
     /**
@@ -46,6 +52,7 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
 
         long startTime = System.currentTimeMillis();
         int totalSize = requestBodies.size();
+        CrudXStatementCapture.items(totalSize);
 
         int successCount = 0;
         int skipCount = 0;
@@ -71,6 +78,12 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
             int chunkEnd = Math.min(chunkStart + dbBatchSize, totalSize);
             List<T> chunkEntities = new ArrayList<>(chunkEnd - chunkStart);
 
+            CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+            chunkEvent.begin();
+            int chunkSuccessStart = successCount;
+            int chunkSkipStart = skipCount;
+            int chunkDuplicateStart = duplicateCount;
+
             // Conversion phase
             for (int i = chunkStart; i < chunkEnd; i += conversionBatchSize) {
                 int batchEnd = Math.min(i + conversionBatchSize, chunkEnd);
@@ -109,7 +122,13 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
             if (!chunkEntities.isEmpty()) {
                 try {
                     lifecycleCallbacks.beforeCreateBatch(chunkEntities);
-                    BatchResult<T> result = crudService.createBatch(chunkEntities, skipDuplicates);
+                    BatchResult<T> result;
+                    int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+                    try {
+                        result = crudService.createBatch(chunkEntities, skipDuplicates);
+                    } finally {
+                        CrudXRequestTiming.exit(phase);
+                    }
                     lifecycleCallbacks.afterCreateBatch(result.getCreatedEntities());
 
                     int inserted = result.getSuccessCount();
@@ -148,6 +167,10 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
 
             chunkEntities.clear();
 
+            chunkEvent.complete(entityName, CrudXOperation.BATCH_CREATE.name(), CrudXBatchChunkEvent.STAGE_PROCESS,
+                    chunkStart / dbBatchSize + 1, chunkEnd - chunkStart, successCount - chunkSuccessStart,
+                    skipCount - chunkSkipStart, duplicateCount - chunkDuplicateStart);
+
             // Progress logging
             if ((chunkStart / dbBatchSize) % 5 == 0 || chunkEnd == totalSize) {
                 logRealtimeProgress(totalSize, chunkEnd, successCount, skipCount,
@@ -301,12 +324,25 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
     }
 
     public BatchResult<T> processBatchUpdate(Map<ID, Map<String, Object>> updates) {
-        return crudService.updateBatch(updates);
+        CrudXStatementCapture.items(updates.size());
+        int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            return crudService.updateBatch(updates);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
     }
 
     public BatchResult<T> processBatchDelete(List<ID> ids) {
+        CrudXStatementCapture.items(ids.size());
         lifecycleCallbacks.beforeDeleteBatch(ids);
-        BatchResult<T> result = crudService.deleteBatch(ids);
+        BatchResult<T> result;
+        int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+        try {
+            result = crudService.deleteBatch(ids);
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
 
         List<ID> deletedIds = result.getCreatedEntities().stream()
                 .map(T::getId)
@@ -318,6 +354,7 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
     }
 
     public int processForceDelete(List<ID> ids, int batchSize) {
+        CrudXStatementCapture.items(ids.size());
         lifecycleCallbacks.beforeDeleteBatch(ids);
 
         int totalDeleted = 0;
@@ -327,7 +364,16 @@ public class CrudXBatchProcessor<T extends CrudXBaseEntity<ID>, ID extends Seria
             int end = Math.min(i + batchSize, ids.size());
             List<ID> batchIds = new ArrayList<>(ids.subList(i, end));
 
-            crudService.deleteBatch(batchIds);
+            CrudXBatchChunkEvent chunkEvent = new CrudXBatchChunkEvent();
+            chunkEvent.begin();
+            int phase = CrudXRequestTiming.enter(CrudXPhase.DB);
+            try {
+                crudService.deleteBatch(batchIds);
+            } finally {
+                CrudXRequestTiming.exit(phase);
+            }
+            chunkEvent.complete(entityName, CrudXOperation.BATCH_DELETE.name(), CrudXBatchChunkEvent.STAGE_PROCESS,
+                    i / batchSize + 1, batchIds.size(), batchIds.size(), 0, 0);
             totalDeleted += batchIds.size();
             actuallyDeletedIds.addAll(batchIds);
             batchIds.clear();
@@ -0,0 +1,146 @@
+package io.github.sachinnimbal.crudx.web.components;
+
+import io.github.sachinnimbal.crudx.core.model.CrudXCollectionVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ETags and conditional GET handling for CrudXController.
+ *
+ * <p>Validators come from {@code audit.updatedAt}: id + updatedAt for a single entity, row count
+ * + latest updatedAt for a page. ETags are weak, since the response envelope (execution time)
+ * differs between otherwise identical responses. Responses carry {@code Cache-Control: no-cache},
+ * so clients keep them but revalidate on every use.</p>
+ */
+@Slf4j
+public class CrudXConditionalRequests {
+
+    private final String entityName;
+    private final boolean pageTags;
+
+    public CrudXConditionalRequests(Class<?> entityClass, boolean pageTags) {
+        this.entityName = entityClass.getSimpleName();
+        this.pageTags = pageTags;
+    }
+
+    public boolean isPageTagsEnabled() {
+        return pageTags;
+    }
+
+    /**
+     * Whether the current request carries If-None-Match or If-Modified-Since
+     */
+    public boolean isConditional() {
+        HttpServletRequest request = currentRequest();
+        return request != null && (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null);
+    }
+
+    public String entityTag(Object id, LocalDateTime lastModified, Set<String> expansions) {
+        int identity = (entityName + ':' + id + ':' + normalize(expansions)).hashCode();
+        return weakTag(identity, epochNanos(lastModified));
+    }
+
+    public String pageTag(Pageable pageable, Set<String> expansions, CrudXCollectionVersion version) {
+        int identity = (entityName + ':' + pageable + ':' + normalize(expansions) + ':' + version.count()).hashCode();
+        return weakTag(identity, version.lastModified() != null ? epochNanos(version.lastModified()) : 0L);
+    }
+
+    /**
+     * Evaluates the request's preconditions against the current validators (If-None-Match wins
+     * over If-Modified-Since, as in RFC 9110)
+     */
+    public boolean isNotModified(String etag, LocalDateTime lastModified) {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return false;
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch, etag);
+        }
+
+        if (lastModified != null && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            try {
+                long since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+                // HTTP dates have second precision
+                return since >= 0 && epochMillis(lastModified) / 1000 <= since / 1000;
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring malformed If-Modified-Since: {}", request.getHeader(HttpHeaders.IF_MODIFIED_SINCE));
+            }
+        }
+        return false;
+    }
+
+    public <B> ResponseEntity<B> notModified(String etag, LocalDateTime lastModified) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified).build();
+    }
+
+    /**
+     * 200 builder carrying the validators (Spring also answers 304 from them after the fact)
+     */
+    public ResponseEntity.BodyBuilder ok(String etag, LocalDateTime lastModified) {
+        return withValidators(ResponseEntity.ok(), etag, lastModified);
+    }
+
+    // ==================== HELPERS ====================
+
+    private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder,
+                                                      String etag, LocalDateTime lastModified) {
+        builder.eTag(etag).cacheControl(CacheControl.noCache());
+        if (lastModified != null) {
+            builder.lastModified(epochMillis(lastModified));
+        }
+        return builder;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || opaque(tag).equals(opaque)) {
+                return true; // Weak comparison
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String weakTag(int identity, long version) {
+        return "W/\"" + Integer.toHexString(identity) + '-' + Long.toHexString(version) + '"';
+    }
+
+    private static String normalize(Set<String> expansions) {
+        return expansions == null || expansions.isEmpty() ? "" : String.join(",", new TreeSet<>(expansions));
+    }
+
+    // audit timestamps are LocalDateTime written in the server's zone
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long epochNanos(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond() * 1_000_000_000L + time.getNano();
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+}
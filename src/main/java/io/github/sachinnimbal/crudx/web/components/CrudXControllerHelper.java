@@ -12,6 +12,9 @@ import org.springframework.http.HttpStatus;
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Slf4j
 public class CrudXControllerHelper<T extends CrudXBaseEntity<ID>, ID extends Serializable> {
@@ -156,6 +159,32 @@ public class CrudXControllerHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
                 duplicateCount, totalSkipped);
     }
 
+    /**
+     * Parses an {@code expand} request parameter ("customer.address,items") into the set of
+     * lazy nested paths to traverse. Every dotted prefix is included, so expanding
+     * {@code customer.address} also expands {@code customer}.
+     */
+    public Set<String> parseExpand(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> expansions = new LinkedHashSet<>();
+        for (String token : expand.split(",")) {
+            String path = token.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            int dot = path.indexOf('.');
+            while (dot > 0) {
+                expansions.add(path.substring(0, dot));
+                dot = path.indexOf('.', dot + 1);
+            }
+            expansions.add(path);
+        }
+        return expansions;
+    }
+
     @SuppressWarnings("unchecked")
     private GenericTypeInfo<T, ID> resolveGenericTypes() {
         try {
@@ -5,25 +5,40 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXField;
+import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXNested;
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXResponse;
 import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapper;
 import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperGenerator;
 import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXMapperRegistry;
+import io.github.sachinnimbal.crudx.core.dto.mapper.CrudXParallelMapper;
 import io.github.sachinnimbal.crudx.core.enums.CrudXOperation;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
 import io.github.sachinnimbal.crudx.core.enums.MapperMode;
+import io.github.sachinnimbal.crudx.core.exception.CrudXValidationException;
+import io.github.sachinnimbal.crudx.core.jfr.CrudXMappingEvent;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXMetricsPublisher;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXStatementCapture;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
 import io.github.sachinnimbal.crudx.core.response.BatchResult;
 import io.github.sachinnimbal.crudx.core.response.PageResponse;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,10 +48,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Serializable> {
 
+    @Getter
     private final Class<T> entityClass;
     private final CrudXMapperRegistry dtoRegistry;
     private final CrudXMapperGenerator mapperGenerator;
     private final ObjectMapper objectMapper;
+    private final int parallelThreshold;
 
     @Getter
     private MapperMode mapperMode = MapperMode.NONE;
@@ -50,14 +67,27 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
     // Entity field caches
     private final Map<String, Field> entityFieldsCache = new ConcurrentHashMap<>();
 
+    // Entity association paths each operation's response DTO always traverses
+    private final Map<CrudXOperation, Set<String>> requiredFetchPathCache = new ConcurrentHashMap<>(8);
+
+    // Response DTOs that are safe to map off the request thread (no nested associations)
+    private final Map<Class<?>, Boolean> parallelSafeCache = new ConcurrentHashMap<>(8);
+
+    // Micrometer export (optional): one conversion timer per operation for the current mapper mode
+    @Setter
+    private CrudXMetricsPublisher metricsPublisher;
+    private final Map<CrudXOperation, Timer> conversionTimers = new ConcurrentHashMap<>(8);
+
     public CrudXDTOConverter(
             Class<T> entityClass,
             CrudXMapperRegistry dtoRegistry,
-            CrudXMapperGenerator mapperGenerator) {
+            CrudXMapperGenerator mapperGenerator,
+            int parallelThreshold) {
 
         this.entityClass = entityClass;
         this.dtoRegistry = dtoRegistry;
         this.mapperGenerator = mapperGenerator;
+        this.parallelThreshold = parallelThreshold;
 
         this.objectMapper = JsonMapper.builder()
                 .addModule(new JavaTimeModule())
@@ -148,8 +178,21 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
     /**
      * Convert Map to Entity (used in POST, PATCH)
      */
-    @SuppressWarnings("unchecked")
     public T convertMapToEntity(Map<String, Object> map, CrudXOperation operation) {
+        int phase = CrudXRequestTiming.enter(CrudXPhase.CONVERT);
+        CrudXMappingEvent event = new CrudXMappingEvent();
+        event.begin();
+        try {
+            return mapToEntity(map, operation);
+        } finally {
+            event.complete(entityClass.getSimpleName(), operation.name(), CrudXMappingEvent.TO_ENTITY,
+                    mapperMode.name(), 1);
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T mapToEntity(Map<String, Object> map, CrudXOperation operation) {
         if (mapperMode == MapperMode.NONE) {
             return convertMapToEntityDirectly(map);
         }
@@ -175,7 +218,7 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
                 entity = mapperGenerator.toEntity(requestDto, entityClass);
             }
 
-            trackDtoConversion(start, true);
+            trackDtoConversion(start, operation);
             return entity;
 
         } catch (Exception e) {
@@ -187,8 +230,28 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
     /**
      * Convert Entity to Response DTO (used in GET by ID, POST response)
      */
-    @SuppressWarnings("unchecked")
     public Object convertEntityToResponse(T entity, CrudXOperation operation) {
+        return convertEntityToResponse(entity, operation, Collections.emptySet());
+    }
+
+    /**
+     * Convert Entity to Response DTO, expanding the requested lazy nested fields
+     */
+    public Object convertEntityToResponse(T entity, CrudXOperation operation, Set<String> expansions) {
+        int phase = CrudXRequestTiming.enter(CrudXPhase.MAP);
+        CrudXMappingEvent event = new CrudXMappingEvent();
+        event.begin();
+        try {
+            return entityToResponse(entity, operation, expansions);
+        } finally {
+            event.complete(entityClass.getSimpleName(), operation.name(), CrudXMappingEvent.TO_RESPONSE,
+                    mapperMode.name(), entity != null ? 1 : 0);
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object entityToResponse(T entity, CrudXOperation operation, Set<String> expansions) {
         if (entity == null || mapperMode == MapperMode.NONE) {
             return entity;
         }
@@ -206,12 +269,12 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
 
             Object response;
             if (mapperMode == MapperMode.COMPILED) {
-                response = handleCompiledResponse(entity, responseDtoClass, annotation);
+                response = handleCompiledResponse(entity, responseDtoClass, annotation, expansions);
             } else {
-                response = handleRuntimeResponse(entity, responseDtoClass, annotation);
+                response = handleRuntimeResponse(entity, responseDtoClass, annotation, expansions);
             }
 
-            trackDtoConversion(start, true);
+            trackDtoConversion(start, operation);
             return response;
 
         } catch (Exception e) {
@@ -223,8 +286,29 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
     /**
      * Convert list of entities to response DTOs (used in GET all)
      */
-    @SuppressWarnings("unchecked")
     public List<?> convertEntitiesToResponse(List<T> entities, CrudXOperation operation) {
+        return convertEntitiesToResponse(entities, operation, Collections.emptySet());
+    }
+
+    /**
+     * Convert list of entities to response DTOs, expanding the requested lazy nested fields
+     */
+    public List<?> convertEntitiesToResponse(List<T> entities, CrudXOperation operation, Set<String> expansions) {
+        CrudXStatementCapture.items(entities != null ? entities.size() : 0);
+        int phase = CrudXRequestTiming.enter(CrudXPhase.MAP);
+        CrudXMappingEvent event = new CrudXMappingEvent();
+        event.begin();
+        try {
+            return entitiesToResponse(entities, operation, expansions);
+        } finally {
+            event.complete(entityClass.getSimpleName(), operation.name(), CrudXMappingEvent.TO_RESPONSE,
+                    mapperMode.name(), entities != null ? entities.size() : 0);
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<?> entitiesToResponse(List<T> entities, CrudXOperation operation, Set<String> expansions) {
         if (entities == null || entities.isEmpty() || mapperMode == MapperMode.NONE) {
             return entities;
         }
@@ -242,12 +326,12 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
 
             List<?> responses;
             if (mapperMode == MapperMode.COMPILED) {
-                responses = handleCompiledResponseList(entities, responseDtoClass, annotation);
+                responses = handleCompiledResponseList(entities, responseDtoClass, annotation, expansions);
             } else {
-                responses = handleRuntimeResponseList(entities, responseDtoClass, annotation);
+                responses = handleRuntimeResponseList(entities, responseDtoClass, annotation, expansions);
             }
 
-            trackDtoConversion(start, true);
+            trackDtoConversion(start, operation);
             return responses;
 
         } catch (Exception e) {
@@ -284,14 +368,22 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
     /**
      * Convert PageResponse to DTO
      */
-    @SuppressWarnings("unchecked")
     public Object convertPageResponseToDTO(PageResponse<T> entityPage, CrudXOperation operation) {
+        return convertPageResponseToDTO(entityPage, operation, Collections.emptySet());
+    }
+
+    /**
+     * Convert PageResponse to DTO, expanding the requested lazy nested fields
+     */
+    @SuppressWarnings("unchecked")
+    public Object convertPageResponseToDTO(PageResponse<T> entityPage, CrudXOperation operation,
+                                           Set<String> expansions) {
         if (mapperMode == MapperMode.NONE || entityPage.getContent().isEmpty()) {
             return entityPage;
         }
 
         try {
-            List<?> dtoContent = convertEntitiesToResponse(entityPage.getContent(), operation);
+            List<?> dtoContent = convertEntitiesToResponse(entityPage.getContent(), operation, expansions);
 
             return PageResponse.builder()
                     .content((List<Object>) dtoContent)
@@ -323,58 +415,235 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
             return null;
         }
 
+        int phase = CrudXRequestTiming.enter(CrudXPhase.CONVERT);
         try {
             return objectMapper.convertValue(map, requestDtoClass);
         } catch (Exception e) {
             log.debug("Map→DTO conversion failed: {}", e.getMessage());
             return null;
+        } finally {
+            CrudXRequestTiming.exit(phase);
+        }
+    }
+
+    /**
+     * Builds the association fetch plan for an operation: the entity paths of every eager
+     * {@link CrudXNested} field reachable from the response DTO, plus the requested expansions
+     * (e.g. {@code customer.address}) translated through {@link CrudXField#source()}.
+     * Expansions that do not resolve to a DTO field are dropped.
+     */
+    public Set<String> resolveFetchPaths(Set<String> expansions, CrudXOperation operation) {
+        if (expansions == null) {
+            expansions = Collections.emptySet();
+        }
+
+        Class<?> responseDtoClass = mapperMode != MapperMode.NONE ? responseDtoCache.get(operation) : null;
+        if (responseDtoClass == null) {
+            // Entity is serialized as-is: expansions already name entity attributes
+            return expansions;
+        }
+
+        Set<String> required = requiredFetchPathCache.computeIfAbsent(operation, op -> {
+            Set<String> paths = new LinkedHashSet<>();
+            collectRequiredFetchPaths(responseDtoClass, "", 1, new HashSet<>(), paths);
+            if (!paths.isEmpty()) {
+                log.debug("✓ Fetch plan for {} {}: {}", entityClass.getSimpleName(), op, paths);
+            }
+            return Collections.unmodifiableSet(paths);
+        });
+
+        if (expansions.isEmpty()) {
+            return required;
+        }
+
+        Set<String> fetchPaths = new LinkedHashSet<>(required);
+        for (String expansion : expansions) {
+            String entityPath = toEntityPath(responseDtoClass, expansion);
+            if (entityPath != null) {
+                fetchPaths.add(entityPath);
+            } else {
+                log.debug("Ignoring unknown expansion '{}' for {}", expansion, responseDtoClass.getSimpleName());
+            }
         }
+        return fetchPaths;
     }
 
     // ==================== PRIVATE HELPER METHODS ====================
 
-    private Object handleCompiledResponse(T entity, Class<?> responseDtoClass, CrudXResponse annotation) {
+    private void collectRequiredFetchPaths(Class<?> dtoClass, String prefix, int depth,
+                                           Set<Class<?>> visiting, Set<String> paths) {
+        if (!visiting.add(dtoClass)) {
+            return; // Cyclic DTO graph
+        }
+
+        CrudXResponse annotation = dtoClass.getAnnotation(CrudXResponse.class);
+        boolean classLazy = annotation != null && annotation.lazyNested();
+
+        for (Field field : getAllFields(dtoClass)) {
+            CrudXNested nested = field.getAnnotation(CrudXNested.class);
+            if (nested == null || classLazy || nested.fetch() == CrudXNested.FetchStrategy.LAZY) {
+                continue;
+            }
+
+            CrudXField fieldAnnotation = field.getAnnotation(CrudXField.class);
+            if (fieldAnnotation != null && fieldAnnotation.ignore()) {
+                continue;
+            }
+            String entityName = fieldAnnotation != null && !fieldAnnotation.source().isEmpty()
+                    ? fieldAnnotation.source() : field.getName();
+            String path = prefix.isEmpty() ? entityName : prefix + "." + entityName;
+            paths.add(path);
+
+            Class<?> nestedDto = resolveNestedDtoType(field);
+            if (nestedDto != null && depth < nested.maxDepth()) {
+                collectRequiredFetchPaths(nestedDto, path, depth + 1, visiting, paths);
+            }
+        }
+
+        visiting.remove(dtoClass);
+    }
+
+    private String toEntityPath(Class<?> dtoClass, String dtoPath) {
+        StringBuilder entityPath = new StringBuilder();
+        Class<?> current = dtoClass;
+
+        for (String segment : dtoPath.split("\\.")) {
+            Field dtoField = current != null ? findField(current, segment) : null;
+            if (dtoField == null) {
+                return null;
+            }
+
+            CrudXField fieldAnnotation = dtoField.getAnnotation(CrudXField.class);
+            String entityName = fieldAnnotation != null && !fieldAnnotation.source().isEmpty()
+                    ? fieldAnnotation.source() : segment;
+            if (!entityPath.isEmpty()) {
+                entityPath.append('.');
+            }
+            entityPath.append(entityName);
+
+            current = resolveNestedDtoType(dtoField);
+        }
+        return entityPath.toString();
+    }
+
+    private Class<?> resolveNestedDtoType(Field dtoField) {
+        CrudXNested nested = dtoField.getAnnotation(CrudXNested.class);
+        if (nested != null && nested.dtoClass() != void.class) {
+            return nested.dtoClass();
+        }
+        if (Collection.class.isAssignableFrom(dtoField.getType())) {
+            Type genericType = dtoField.getGenericType();
+            if (genericType instanceof ParameterizedType parameterized
+                    && parameterized.getActualTypeArguments()[0] instanceof Class<?> itemType) {
+                return itemType;
+            }
+            return null;
+        }
+        return dtoField.getType();
+    }
+
+    private Field findField(Class<?> clazz, String name) {
+        for (Field field : getAllFields(clazz)) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private Object handleCompiledResponse(T entity, Class<?> responseDtoClass, CrudXResponse annotation,
+                                          Set<String> expansions) {
         if (annotation != null && (annotation.includeId() || annotation.includeAudit())) {
             try {
                 return mapperGenerator != null
-                        ? mapperGenerator.toResponseMap(entity, responseDtoClass)
-                        : compiledMapper.toResponse(entity);
+                        ? mapperGenerator.toResponseMap(entity, responseDtoClass, expansions)
+                        : compiledMapper.toResponse(entity, expansions);
             } catch (Exception e) {
-                return compiledMapper.toResponse(entity);
+                return compiledMapper.toResponse(entity, expansions);
             }
         }
-        return compiledMapper.toResponse(entity);
+        return compiledMapper.toResponse(entity, expansions);
     }
 
-    private Object handleRuntimeResponse(T entity, Class<?> responseDtoClass, CrudXResponse annotation) {
+    private Object handleRuntimeResponse(T entity, Class<?> responseDtoClass, CrudXResponse annotation,
+                                         Set<String> expansions) {
         if (annotation != null && (annotation.includeId() || annotation.includeAudit())) {
-            return mapperGenerator.toResponseMap(entity, responseDtoClass);
+            return mapperGenerator.toResponseMap(entity, responseDtoClass, expansions);
         }
-        return mapperGenerator.toResponse(entity, responseDtoClass);
+        return mapperGenerator.toResponse(entity, responseDtoClass, expansions);
     }
 
-    private List<?> handleCompiledResponseList(List<T> entities, Class<?> responseDtoClass, CrudXResponse annotation) {
+    private List<?> handleCompiledResponseList(List<T> entities, Class<?> responseDtoClass, CrudXResponse annotation,
+                                               Set<String> expansions) {
         if (annotation != null && (annotation.includeId() || annotation.includeAudit())) {
-            return entities.stream()
+            return mapList(entities, responseDtoClass, expansions, chunk -> chunk.stream()
                     .map(entity -> {
                         try {
                             return mapperGenerator != null
-                                    ? mapperGenerator.toResponseMap(entity, responseDtoClass)
-                                    : compiledMapper.toResponse(entity);
+                                    ? mapperGenerator.toResponseMap(entity, responseDtoClass, expansions)
+                                    : compiledMapper.toResponse(entity, expansions);
                         } catch (Exception e) {
-                            return compiledMapper.toResponse(entity);
+                            return compiledMapper.toResponse(entity, expansions);
                         }
                     })
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toList()));
         }
-        return compiledMapper.toResponseList(entities);
+        return mapList(entities, responseDtoClass, expansions,
+                chunk -> compiledMapper.toResponseList(chunk, expansions));
     }
 
-    private List<?> handleRuntimeResponseList(List<T> entities, Class<?> responseDtoClass, CrudXResponse annotation) {
+    private List<?> handleRuntimeResponseList(List<T> entities, Class<?> responseDtoClass, CrudXResponse annotation,
+                                              Set<String> expansions) {
         if (annotation != null && (annotation.includeId() || annotation.includeAudit())) {
-            return mapperGenerator.toResponseMapList(entities, responseDtoClass);
+            return mapList(entities, responseDtoClass, expansions,
+                    chunk -> mapperGenerator.toResponseMapList(chunk, responseDtoClass, expansions));
         }
-        return mapperGenerator.toResponseList(entities, responseDtoClass);
+        return mapList(entities, responseDtoClass, expansions,
+                chunk -> mapperGenerator.toResponseList(chunk, responseDtoClass, expansions));
+    }
+
+    /**
+     * Maps large lists in parallel chunks (order preserved), small lists sequentially.
+     * DTOs that map anything but basic values (nested DTOs, collections, associations) always
+     * stay on the request thread: copying them may initialize lazy associations, and the
+     * persistence context (shared by the request with open-in-view) is not thread-safe.
+     */
+    private List<?> mapList(List<T> entities, Class<?> responseDtoClass, Set<String> expansions,
+                            Function<List<T>, List<?>> chunkMapper) {
+        if (entities.size() < parallelThreshold || !expansions.isEmpty() || !isParallelSafe(responseDtoClass)) {
+            return chunkMapper.apply(entities);
+        }
+        return CrudXParallelMapper.<T, Object>mapInChunks(entities, parallelThreshold, chunkMapper::apply);
+    }
+
+    private boolean isParallelSafe(Class<?> responseDtoClass) {
+        return parallelSafeCache.computeIfAbsent(responseDtoClass, dtoClass -> {
+            for (Field field : getAllFields(dtoClass)) {
+                if (field.isAnnotationPresent(CrudXNested.class) || !isBasicType(field.getType())) {
+                    return false;
+                }
+                // The entity side may be lazy even when the DTO declares a plain value
+                CrudXField mapping = field.getAnnotation(CrudXField.class);
+                String source = mapping != null && !mapping.source().isEmpty() ? mapping.source() : field.getName();
+                Field entityField = entityFieldsCache.get(source);
+                if (entityField != null && !isBasicType(entityField.getType())) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Values that are copied without touching the persistence context
+     */
+    private static boolean isBasicType(Class<?> type) {
+        return type.isPrimitive() || type.isEnum()
+                || type == String.class || type == Boolean.class || type == Character.class
+                || Number.class.isAssignableFrom(type)
+                || java.time.temporal.Temporal.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type)
+                || type == UUID.class || type == byte[].class;
     }
 
     private T convertMapToEntityDirectly(Map<String, Object> map) {
@@ -383,9 +652,9 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
             return objectMapper.convertValue(processedMap, entityClass);
         } catch (IllegalArgumentException e) {
             if (e.getMessage() != null && e.getMessage().contains("not one of the values accepted")) {
-                throw new IllegalArgumentException("Invalid enum value: " + e.getMessage(), e);
+                throw new CrudXValidationException("Invalid enum value: " + e.getMessage(), e);
             }
-            throw new IllegalArgumentException("Invalid request body format", e);
+            throw new CrudXValidationException("Invalid request body format", e);
         }
     }
 
@@ -470,6 +739,15 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
         }
     }
 
+    private Timer conversionTimer(CrudXOperation operation) {
+        Timer timer = conversionTimers.get(operation);
+        if (timer == null && metricsPublisher != null && metricsPublisher.isEnabled()) {
+            timer = conversionTimers.computeIfAbsent(operation, op ->
+                    metricsPublisher.dtoConversionTimer(entityClass.getSimpleName(), op, mapperMode));
+        }
+        return timer;
+    }
+
     private void updateDtoTypeInRequest() {
         try {
             ServletRequestAttributes attrs = (ServletRequestAttributes)
@@ -484,8 +762,14 @@ public class CrudXDTOConverter<T extends CrudXBaseEntity<ID>, ID extends Seriali
         }
     }
 
-    private void trackDtoConversion(long startNanos, boolean used) {
-        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+    private void trackDtoConversion(long startNanos, CrudXOperation operation) {
+        long durationNanos = System.nanoTime() - startNanos;
+        long durationMs = durationNanos / 1_000_000;
+
+        Timer timer = conversionTimer(operation);
+        if (timer != null) {
+            timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
 
         try {
             ServletRequestAttributes attrs = (ServletRequestAttributes)
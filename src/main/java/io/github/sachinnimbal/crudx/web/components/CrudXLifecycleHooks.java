@@ -98,6 +98,7 @@ public abstract class CrudXLifecycleHooks<T extends CrudXBaseEntity<ID>, ID exte
 
     /**
      * Called after finding an entity by ID
+     * Not called when a conditional GET is answered with 304 (crudx.cache.etag-enabled)
      * @param entity The found entity
      */
     protected void afterFindById(T entity) {
@@ -112,6 +113,7 @@ public abstract class CrudXLifecycleHooks<T extends CrudXBaseEntity<ID>, ID exte
 
     /**
      * Called after finding paged entities
+     * Not called when a conditional GET is answered with 304 (crudx.cache.page-etag-enabled)
      * @param pageResponse The page response containing entities
      */
     protected void afterFindPaged(PageResponse<T> pageResponse) {
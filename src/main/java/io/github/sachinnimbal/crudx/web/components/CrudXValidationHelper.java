@@ -1,6 +1,9 @@
 package io.github.sachinnimbal.crudx.web.components;
 
 import io.github.sachinnimbal.crudx.core.dto.annotations.CrudXField;
+import io.github.sachinnimbal.crudx.core.enums.CrudXPhase;
+import io.github.sachinnimbal.crudx.core.exception.CrudXValidationException;
+import io.github.sachinnimbal.crudx.core.metrics.CrudXRequestTiming;
 import io.github.sachinnimbal.crudx.core.model.CrudXBaseEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -37,10 +40,10 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateId(ID id) {
         switch (id) {
-            case null -> throw new IllegalArgumentException("ID cannot be null");
-            case String s when s.trim().isEmpty() -> throw new IllegalArgumentException("ID cannot be empty");
+            case null -> throw new CrudXValidationException("ID cannot be null");
+            case String s when s.trim().isEmpty() -> throw new CrudXValidationException("ID cannot be empty");
             case Number number when number.longValue() <= 0 ->
-                    throw new IllegalArgumentException("ID must be positive");
+                    throw new CrudXValidationException("ID must be positive");
             default -> {
             }
         }
@@ -51,13 +54,13 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validatePagination(int page, int size) {
         if (page < 0) {
-            throw new IllegalArgumentException("Page number cannot be negative");
+            throw new CrudXValidationException("Page number cannot be negative");
         }
         if (size <= 0) {
-            throw new IllegalArgumentException("Page size must be greater than 0");
+            throw new CrudXValidationException("Page size must be greater than 0");
         }
         if (size > MAX_PAGE_SIZE) {
-            throw new IllegalArgumentException("Page size cannot exceed " + MAX_PAGE_SIZE);
+            throw new CrudXValidationException("Page size cannot exceed " + MAX_PAGE_SIZE);
         }
     }
 
@@ -66,7 +69,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateBatchSize(int size, int maxBatchSize) {
         if (size > maxBatchSize) {
-            throw new IllegalArgumentException(
+            throw new CrudXValidationException(
                     String.format("Batch size %d exceeds maximum allowed %d. " +
                                     "Please split your request into smaller batches.",
                             size, maxBatchSize)
@@ -74,7 +77,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
         }
 
         if (size < 2) {
-            throw new IllegalArgumentException(
+            throw new CrudXValidationException(
                     String.format("Batch creation requires at least 2 records. " +
                                     "Current size: %d. Use POST / endpoint for single record creation.",
                             size)
@@ -87,11 +90,11 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateBatchRequestBody(List<Map<String, Object>> requestBodies) {
         if (requestBodies == null || requestBodies.isEmpty()) {
-            throw new IllegalArgumentException("Request body cannot be null or empty");
+            throw new CrudXValidationException("Request body cannot be null or empty");
         }
 
         if (requestBodies.get(0) == null || requestBodies.get(0).isEmpty()) {
-            throw new IllegalArgumentException(
+            throw new CrudXValidationException(
                     "First record in batch is null or empty. All records must contain data."
             );
         }
@@ -105,6 +108,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
             return;
         }
 
+        int phase = CrudXRequestTiming.enter(CrudXPhase.VALIDATE);
         try {
             for (Map.Entry<String, Field> entry : requiredFieldsCache.entrySet()) {
                 Field field = entry.getValue();
@@ -112,13 +116,15 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
                 Object value = field.get(obj);
 
                 if (value == null) {
-                    throw new IllegalArgumentException(
+                    throw new CrudXValidationException(
                             "Required field '" + entry.getKey() + "' cannot be null"
                     );
                 }
             }
         } catch (IllegalAccessException e) {
             log.warn("Field validation access error: {}", e.getMessage());
+        } finally {
+            CrudXRequestTiming.exit(phase);
         }
     }
 
@@ -127,7 +133,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateRequestBody(Map<String, Object> requestBody) {
         if (requestBody == null || requestBody.isEmpty()) {
-            throw new IllegalArgumentException("Request body cannot be null or empty");
+            throw new CrudXValidationException("Request body cannot be null or empty");
         }
     }
 
@@ -136,7 +142,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateUpdates(Map<String, Object> updates) {
         if (updates == null || updates.isEmpty()) {
-            throw new IllegalArgumentException("Update data cannot be null or empty");
+            throw new CrudXValidationException("Update data cannot be null or empty");
         }
     }
 
@@ -145,7 +151,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateBatchUpdates(Map<ID, Map<String, Object>> updates) {
         if (updates == null || updates.isEmpty()) {
-            throw new IllegalArgumentException("Updates map cannot be empty");
+            throw new CrudXValidationException("Updates map cannot be empty");
         }
     }
 
@@ -154,7 +160,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateIdList(List<ID> ids) {
         if (ids == null || ids.isEmpty()) {
-            throw new IllegalArgumentException("ID list cannot be null or empty");
+            throw new CrudXValidationException("ID list cannot be null or empty");
         }
     }
 
@@ -163,7 +169,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
      */
     public void validateForceDeleteSize(int size, int threshold) {
         if (size > threshold) {
-            throw new IllegalArgumentException(
+            throw new CrudXValidationException(
                     String.format("Cannot force delete more than %d records. Current: %d IDs",
                             threshold, size)
             );
@@ -177,7 +183,7 @@ public class CrudXValidationHelper<T extends CrudXBaseEntity<ID>, ID extends Ser
         try {
             Sort.Direction.fromString(sortDirection);
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(
+            throw new CrudXValidationException(
                     "Invalid sort direction: " + sortDirection + ". Must be ASC or DESC"
             );
         }